@@ -12,6 +12,8 @@ class Settings(BaseSettings):
     REDIS_HOST: str
     REDIS_PORT: int
     REDIS_DB: int
+    # 생성 결과 저장 형식: cbor ("v2:" 접두사) / json (백엔드가 v2를 읽지 못하는 버전일 때)
+    RESULT_VALUE_FORMAT: str = "cbor"
 
     # S3
     S3_ACCESS_KEY: str
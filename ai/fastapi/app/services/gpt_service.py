@@ -3,6 +3,7 @@ import json
 from openai import AsyncOpenAI
 from app.config import settings
 from app.utils.logger import logger
+from app.utils.redis_keys import load_session_sentences
 
 
 class GPTService:
@@ -25,15 +26,7 @@ class GPTService:
 
         # 1. Redis에서 이전 문장 조회
         try:
-            pattern = f"Learning:user:{user_id}:session:{session_id}:word:*"
-            keys = sorted(self.redis.keys(pattern))
-            for key in keys:
-                raw = self.redis.get(key)
-                if raw:
-                    data = json.loads(raw)
-                    sentence = data.get("sentence")
-                    if sentence:
-                        previous_sentences.append(sentence)
+            previous_sentences = load_session_sentences(self.redis, session_id)
             logger.info(f"[GPTService] Redis에서 문장 {len(previous_sentences)}개 조회됨")
         except Exception as e:
             logger.warning(f"[GPTService] Redis 조회 실패: {e}")
@@ -5,6 +5,8 @@ from datetime import datetime
 from app.config import settings
 from app.services.gpt_service import GPTService
 from app.utils.logger import logger
+from app.utils.redis_keys import generated_song_key, song_status_key, load_session_sentences
+from app.utils.result_codec import encode_result
 from app.models.song import SongResponse
 
 class SonautoService:
@@ -18,19 +20,7 @@ class SonautoService:
         }
 
     def get_sentences_from_redis(self, user_id: int, session_id: int) -> list[str]:
-        pattern = f"Learning:user:{user_id}:session:{session_id}:word:*"
-        keys = sorted(self.redis.keys(pattern))
-        sentences = []
-
-        for key in keys:
-            raw = self.redis.get(key)
-            if raw:
-                data = json.loads(raw)
-                sentence = data.get("sentence")
-                if sentence:
-                    sentences.append(sentence)
-
-        return sentences
+        return load_session_sentences(self.redis, session_id)
 
     async def generate_song(self, user_id: int, session_id: int, mood_name: str, voice_name: str) -> dict:
         # 1. Redis에서 문장 조회
@@ -113,7 +103,7 @@ class SonautoService:
             raise
 
         # 6. Redis 저장
-        redis_key = f"Song:user:{user_id}:session:{session_id}"
+        redis_key = generated_song_key(user_id, session_id)
         redis_value = {
             "song_url": s3_url,
             "title": title,
@@ -123,9 +113,17 @@ class SonautoService:
             "voice": voice_name,
             "cached_at": datetime.utcnow().isoformat()
         }
-        self.redis.set(redis_key, json.dumps(redis_value))
+        self.redis.set(redis_key, encode_result(redis_value))
         self.redis.expire(redis_key, 86400)
 
+        # 상태 변경 알림 (백엔드 SSE 스트림이 polling 없이 READY를 받도록)
+        self.redis.set(song_status_key(session_id), "READY")
+        self.redis.publish("Song:status", json.dumps({
+            "userId": user_id,
+            "sessionId": session_id,
+            "status": "READY"
+        }))
+
         logger.info(f"[Sonauto] 노래 생성 완료 및 Redis 저장 완료: {s3_url}")
 
         return SongResponse(
@@ -1,5 +1,6 @@
 from app.utils.logger import logger
-import json
+from app.utils.redis_keys import generated_content_key, session_word_index_key
+from app.utils.result_codec import encode_result
 from datetime import datetime
 from app.services.gpt_service import GPTService
 from app.services.diffusion_service import DiffusionService
@@ -54,7 +55,7 @@ class WordService:
                 raise
 
             # 4. Redis 저장
-            redis_key = f"Learning:user:{request.userId}:session:{request.sessionId}:word:{request.wordEn}"
+            redis_key = generated_content_key(request.userId, request.sessionId, request.wordEn)
             redis_value = {
                 "word": request.wordEn,
                 "sentence": sentence,
@@ -65,10 +66,17 @@ class WordService:
                 "cached_at": datetime.utcnow().isoformat()
             }
 
-            self.redis.set(redis_key, json.dumps(redis_value))
-            self.redis.expire(redis_key, 86400)
+            index_key = session_word_index_key(request.sessionId)
+            pipe = self.redis.pipeline()
+            pipe.set(redis_key, encode_result(redis_value), ex=86400)
+            pipe.sadd(index_key, redis_key)
+            pipe.expire(index_key, 86400)
+            pipe.execute()
             logger.info(f"[Redis 저장 완료] key={redis_key}")
 
+            # 생성 완료 알림 (백엔드가 polling 없이 결과를 가져가도록 키 이름 발행)
+            self.redis.publish("Learning:generated", redis_key)
+
             # 5. 응답 반환
             return WordResponse(
                 wordEn=request.wordEn,
@@ -0,0 +1,46 @@
+# utils/redis_keys.py
+from app.utils.result_codec import decode_result
+
+# 백엔드 RedisKeyUtil과 같은 형식을 유지해야 함
+# 세션 단위 키는 {session:N} 해시 태그로 같은 슬롯에 배치 (Redis Cluster)
+
+
+def session_tag(session_id: int) -> str:
+    return "{session:" + str(session_id) + "}"
+
+
+def generated_content_key(user_id: int, session_id: int, word_en: str) -> str:
+    return f"Learning:{session_tag(session_id)}:user:{user_id}:word:{word_en}"
+
+
+def session_word_index_key(session_id: int) -> str:
+    return f"Learning:{session_tag(session_id)}:words"
+
+
+def generated_song_key(user_id: int, session_id: int) -> str:
+    return f"Song:{session_tag(session_id)}:user:{user_id}"
+
+
+def song_status_key(session_id: int) -> str:
+    return f"Song:status:{session_tag(session_id)}"
+
+
+def load_session_sentences(redis, session_id: int) -> list[str]:
+    """세션 단어 인덱스(Set)로 생성 결과를 한 번에 조회 (KEYS 사용 안 함)"""
+    keys = sorted(redis.smembers(session_word_index_key(session_id)))
+    if not keys:
+        return []
+
+    sentences = []
+    # 아직 생성 전인 단어(Hash)는 MGET에서 None으로 반환됨
+    for raw in redis.mget(keys):
+        if not raw:
+            continue
+        try:
+            data = decode_result(raw)
+        except ValueError:
+            continue
+        sentence = data.get("sentence")
+        if sentence:
+            sentences.append(sentence)
+    return sentences
@@ -0,0 +1,30 @@
+# utils/result_codec.py
+import json
+
+import cbor2
+
+from app.config import settings
+
+# 백엔드 GeneratedResultCodec과 같은 형식을 유지해야 함
+# - "v2:" + CBOR : 기본 형식 (JSON보다 작고 한글을 \uXXXX로 이스케이프하지 않음)
+# - "v1:" + JSON / 접두사 없는 JSON : 이전 형식 (백엔드 재사용 풀 값 등, 읽기 지원)
+CBOR_PREFIX = b"v2:"
+JSON_PREFIX = b"v1:"
+
+
+def encode_result(value: dict) -> bytes:
+    """생성 결과를 Redis 값으로 변환 (RESULT_VALUE_FORMAT=json이면 이전 형식)"""
+    if settings.RESULT_VALUE_FORMAT == "json":
+        return json.dumps(value).encode("utf-8")
+    return CBOR_PREFIX + cbor2.dumps(value)
+
+
+def decode_result(raw) -> dict:
+    """Redis 값을 생성 결과로 변환 (형식은 접두사로 구분)"""
+    if isinstance(raw, str):
+        raw = raw.encode("utf-8")
+    if raw.startswith(CBOR_PREFIX):
+        return cbor2.loads(raw[len(CBOR_PREFIX):])
+    if raw.startswith(JSON_PREFIX):
+        raw = raw[len(JSON_PREFIX):]
+    return json.loads(raw)
@@ -0,0 +1,94 @@
+package com.ssafy.aieng.global.infra.fastapi.codec;
+
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.ssafy.aieng.domain.song.dto.response.GeneratedSongResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FastAPI 생성 결과 디코딩 비용 (값 형식별)
+ * - legacyReadTree: 변경 전 방식 (요청마다 ObjectMapper 생성 + readTree)
+ * - plainJson / v1Json: 접두어 없는 JSON, "v1:" JSON (ensure_ascii, 한글은 유니코드 이스케이프)
+ * - v2Cbor: FastAPI result_codec.py가 쓰는 "v2:" CBOR
+ * 값 크기는 setUp에서 한 번 출력
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeneratedResultCodecBenchmark {
+
+    private GeneratedResultCodec codec;
+    private String plainJson;
+    private byte[] plainJsonBytes;
+    private byte[] v1JsonBytes;
+    private byte[] v2CborBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        codec = new GeneratedResultCodec(new StringRedisTemplate(), new ObjectMapper());
+
+        Map<String, String> song = new LinkedHashMap<>();
+        song.put("title", "Twinkle Apple");
+        song.put("lyrics_en", "Apple apple, red and round, falling softly to the ground. "
+                + "Pick it up and take a bite, crunchy, sweet and shiny bright.");
+        song.put("lyrics_ko", "사과 사과 빨갛고 동그란 사과, 땅으로 살며시 떨어져요. "
+                + "주워서 한 입 베어 물면, 아삭아삭 달콤하고 반짝반짝 빛나요.");
+        song.put("song_url", "https://cdn.example.com/songs/song_10_3063757d21e247949ad973e2f0b96fd2.ogg");
+        song.put("mood", "happy");
+        song.put("voice", "female vocal");
+
+        plainJsonBytes = JsonMapper.builder().enable(JsonWriteFeature.ESCAPE_NON_ASCII).build()
+                .writeValueAsBytes(song);
+        plainJson = new String(plainJsonBytes, StandardCharsets.US_ASCII);
+        v1JsonBytes = withPrefix("v1:", plainJsonBytes);
+        v2CborBytes = withPrefix("v2:", new CBORMapper().writeValueAsBytes(song));
+
+        System.out.printf("📦 값 크기 - JSON: %d bytes, v1 JSON: %d bytes, v2 CBOR: %d bytes%n",
+                plainJsonBytes.length, v1JsonBytes.length, v2CborBytes.length);
+    }
+
+    @Benchmark
+    public String legacyReadTree() throws Exception {
+        JsonNode node = new ObjectMapper().readTree(plainJson);
+        return node.get("song_url").asText();
+    }
+
+    @Benchmark
+    public GeneratedSongResult plainJson() {
+        return codec.decodeSong(plainJsonBytes);
+    }
+
+    @Benchmark
+    public GeneratedSongResult v1Json() {
+        return codec.decodeSong(v1JsonBytes);
+    }
+
+    @Benchmark
+    public GeneratedSongResult v2Cbor() {
+        return codec.decodeSong(v2CborBytes);
+    }
+
+    private static byte[] withPrefix(String prefix, byte[] body) {
+        byte[] raw = new byte[prefix.length() + body.length];
+        System.arraycopy(prefix.getBytes(StandardCharsets.US_ASCII), 0, raw, 0, prefix.length());
+        System.arraycopy(body, 0, raw, prefix.length(), body.length);
+        return raw;
+    }
+}
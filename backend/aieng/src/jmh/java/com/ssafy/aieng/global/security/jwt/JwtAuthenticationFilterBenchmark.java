@@ -0,0 +1,111 @@
+package com.ssafy.aieng.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 처리량
+ * - filterRepeatedToken: 같은 토큰 반복 요청 (검증 캐시 적중)
+ * - filterDistinctTokens: 캐시 크기보다 많은 토큰 (서명 검증 경로)
+ * - legacyDoubleParse: 변경 전 방식 (요청마다 키 디코딩 + 파서 생성, validateToken/getAuthentication에서 두 번 파싱)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = Encoders.BASE64.encode(
+            "benchmark-secret-key-for-jwt-authentication-filter-0123456789".getBytes(StandardCharsets.UTF_8));
+    private static final int DISTINCT_TOKENS = 20_000;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtTokenProvider provider;
+    private JwtAuthenticationFilter filter;
+    private String repeatedToken;
+    private String[] distinctTokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        provider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        provider.init();
+        filter = new JwtAuthenticationFilter(provider);
+
+        repeatedToken = provider.createAccessToken("42");
+        distinctTokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            distinctTokens[i] = provider.createAccessToken(String.valueOf(i + 1));
+        }
+    }
+
+    @Benchmark
+    public int filterRepeatedToken() throws Exception {
+        return doFilter(repeatedToken);
+    }
+
+    @Benchmark
+    public int filterDistinctTokens() throws Exception {
+        return doFilter(distinctTokens[ThreadLocalRandom.current().nextInt(DISTINCT_TOKENS)]);
+    }
+
+    @Benchmark
+    public Integer legacyDoubleParse() {
+        String token = request(repeatedToken).getHeader("Authorization").substring(7);
+        // validateToken
+        legacyClaims(token);
+        // getAuthentication → getUserId
+        return Integer.parseInt(legacyClaims(token).getSubject());
+    }
+
+    private int doFilter(String token) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request(token), response, NO_OP_CHAIN);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response.getStatus();
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/songs");
+        request.setServletPath("/api/songs");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
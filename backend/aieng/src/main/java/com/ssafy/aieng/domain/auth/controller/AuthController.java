@@ -1,5 +1,6 @@
 package com.ssafy.aieng.domain.auth.controller;
 
+import com.ssafy.aieng.domain.auth.dto.TokenRefreshResult;
 import com.ssafy.aieng.domain.auth.dto.response.TokenRefreshResponse;
 import com.ssafy.aieng.domain.auth.service.OAuthService;
 import com.ssafy.aieng.global.common.response.ApiResponse;
@@ -20,7 +21,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
     private final OAuthService oAuthService;
 
-    // 리프레시 토큰으로 액세스 토큰 재발급
+    // 리프레시 토큰으로 액세스 토큰 재발급 (새 리프레시 토큰은 쿠키로 교체)
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponse<TokenRefreshResponse>> refreshToken(
             @CookieValue(name = "refresh_token", required = false) String refreshToken) {
@@ -28,8 +29,9 @@ public class AuthController {
             throw new CustomException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
         }
 
-        TokenRefreshResponse response = oAuthService.refreshToken(refreshToken);
-        return ApiResponse.success(response);
+        TokenRefreshResult result = oAuthService.refreshToken(refreshToken);
+        ResponseCookie responseCookie = CookieUtil.makeRefreshTokenCookie(result.getRefreshToken());
+        return ApiResponse.success(result.getResponse(), responseCookie);
     }
 
     // 로그아웃(리프레시 토큰 쿠키 삭제)
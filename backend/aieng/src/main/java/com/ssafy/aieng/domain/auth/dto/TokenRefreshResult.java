@@ -0,0 +1,19 @@
+package com.ssafy.aieng.domain.auth.dto;
+
+import com.ssafy.aieng.domain.auth.dto.response.TokenRefreshResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TokenRefreshResult {
+    private TokenRefreshResponse response;
+    private String refreshToken;
+
+    public static TokenRefreshResult of(TokenRefreshResponse response, String refreshToken) {
+        return TokenRefreshResult.builder()
+                .response(response)
+                .refreshToken(refreshToken)
+                .build();
+    }
+}
@@ -8,4 +8,9 @@ import lombok.Getter;
 public class TokenValidationResult {
     private final boolean isValid;
     private final TokenError error;
+    private final Integer userId; // 유효한 토큰의 subject
+
+    public TokenValidationResult(boolean isValid, TokenError error) {
+        this(isValid, error, null);
+    }
 }
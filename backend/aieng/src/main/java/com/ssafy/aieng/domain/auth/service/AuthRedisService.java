@@ -1,40 +1,43 @@
 package com.ssafy.aieng.domain.auth.service;
 
+import com.ssafy.aieng.domain.auth.token.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class AuthRedisService {
-    private final Map<String, String> tokenStore = new ConcurrentHashMap<>();
-    private final long REFRESH_TOKEN_EXPIRATION = 14 * 24 * 60 * 60L; // 14일
+
+    private static final Duration REFRESH_TOKEN_EXPIRATION = Duration.ofDays(14); // JwtTokenProvider 리프레시 토큰 유효기간과 동일
+
+    private final RefreshTokenStore refreshTokenStore;
 
     // RefreshToken을 저장 (userId 기준)
     public void saveRefreshToken(String userId, String refreshToken) {
-        String key = getRefreshTokenKey(userId);
-        tokenStore.put(key, refreshToken);
+        refreshTokenStore.save(userId, refreshToken, REFRESH_TOKEN_EXPIRATION);
     }
 
     // userId로 RefreshToken 조회
     public String getRefreshToken(String userId) {
-        return tokenStore.get(getRefreshTokenKey(userId));
+        return refreshTokenStore.get(userId);
     }
 
     // userId로 RefreshToken 삭제
     public void deleteRefreshToken(String userId) {
-        tokenStore.remove(getRefreshTokenKey(userId));
+        refreshTokenStore.delete(userId);
     }
 
     // userId로 RefreshToken 존재 여부 확인
     public boolean hasRefreshToken(String userId) {
-        return tokenStore.containsKey(getRefreshTokenKey(userId));
+        return refreshTokenStore.get(userId) != null;
     }
 
-    // (private) RefreshToken 저장 키 생성
-    private String getRefreshTokenKey(String userId) {
-        return "refresh_token:" + userId;
+    // 저장된 토큰이 현재 토큰과 같을 때만 새 토큰으로 교체 (이미 사용된 토큰이면 false)
+    public boolean rotateRefreshToken(String userId, String currentToken, String newToken) {
+        return refreshTokenStore.rotate(userId, currentToken, newToken, REFRESH_TOKEN_EXPIRATION);
     }
-}
\ No newline at end of file
+}
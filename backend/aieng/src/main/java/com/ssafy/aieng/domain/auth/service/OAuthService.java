@@ -2,6 +2,7 @@ package com.ssafy.aieng.domain.auth.service;
 
 import com.ssafy.aieng.domain.auth.dto.LoginResult;
 import com.ssafy.aieng.domain.auth.dto.OAuthUserInfo;
+import com.ssafy.aieng.domain.auth.dto.TokenRefreshResult;
 import com.ssafy.aieng.domain.auth.dto.TokenValidationResult;
 import com.ssafy.aieng.domain.auth.dto.response.OAuthLoginResponse;
 import com.ssafy.aieng.domain.auth.dto.response.TokenRefreshResponse;
@@ -103,22 +104,28 @@ public class OAuthService {
         return savedUser;
     }
 
-    // 리프레시 토큰으로 액세스 토큰 재발급
-    public TokenRefreshResponse refreshToken(String refreshToken) {
+    // 리프레시 토큰으로 액세스 토큰 재발급 (리프레시 토큰도 새로 발급, 이전 토큰은 재사용 불가)
+    public TokenRefreshResult refreshToken(String refreshToken) {
         TokenValidationResult validationResult = jwtTokenProvider.validateToken(refreshToken);
         if (!validationResult.isValid()) {
             throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        String userId = jwtTokenProvider.getUserId(refreshToken).toString();
+        String userId = validationResult.getUserId().toString();
         String savedRefreshToken = authRedisService.getRefreshToken(userId);
 
         if (savedRefreshToken == null || !savedRefreshToken.equals(refreshToken)) {
             throw new CustomException(ErrorCode.REFRESH_TOKEN_MISMATCH);
         }
 
+        // 저장된 토큰과 같을 때만 교체 (동시에 같은 토큰으로 요청하면 하나만 성공)
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(userId);
+        if (!authRedisService.rotateRefreshToken(userId, refreshToken, newRefreshToken)) {
+            throw new CustomException(ErrorCode.REFRESH_TOKEN_MISMATCH);
+        }
+
         String newAccessToken = jwtTokenProvider.createAccessToken(userId);
-        return new TokenRefreshResponse(newAccessToken);
+        return TokenRefreshResult.of(new TokenRefreshResponse(newAccessToken), newRefreshToken);
     }
 
     // [네이버 전용] 네이버 OAuth code+state로 로그인 처리
@@ -0,0 +1,80 @@
+package com.ssafy.aieng.domain.auth.token;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬(테스트)용 리프레시 토큰 저장소
+ * - 프로세스 안에서만 유지되므로 서버가 여러 대인 환경에서는 사용하지 않음
+ * - 만료된 토큰은 조회 시 제외, 주기적으로 정리
+ */
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token-store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final long PURGE_INTERVAL_MS = 60_000;
+
+    private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(String userId, String refreshToken, Duration ttl) {
+        tokens.put(userId, new Entry(refreshToken, expiresAt(ttl)));
+    }
+
+    @Override
+    public String get(String userId) {
+        Entry entry = tokens.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            tokens.remove(userId, entry);
+            return null;
+        }
+        return entry.token;
+    }
+
+    @Override
+    public void delete(String userId) {
+        tokens.remove(userId);
+    }
+
+    @Override
+    public boolean rotate(String userId, String expected, String newToken, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Entry replacement = new Entry(newToken, expiresAt(ttl));
+        Entry result = tokens.computeIfPresent(userId, (id, current) ->
+                (!current.isExpired(now) && current.token.equals(expected)) ? replacement : current);
+        return result == replacement;
+    }
+
+    @Scheduled(fixedDelay = PURGE_INTERVAL_MS)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        tokens.entrySet().removeIf(e -> e.getValue().isExpired(now));
+    }
+
+    private static long expiresAt(Duration ttl) {
+        return System.currentTimeMillis() + ttl.toMillis();
+    }
+
+    private static final class Entry {
+
+        private final String token;
+        private final long expiresAt;
+
+        private Entry(String token, long expiresAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
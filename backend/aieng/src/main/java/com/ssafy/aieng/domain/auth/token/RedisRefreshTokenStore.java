@@ -0,0 +1,54 @@
+package com.ssafy.aieng.domain.auth.token;
+
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-token-store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    // 비교 후 교체를 한 번에 수행
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void save(String userId, String refreshToken, Duration ttl) {
+        stringRedisTemplate.opsForValue().set(RedisKeyUtil.getRefreshTokenKey(userId), refreshToken, ttl);
+    }
+
+    @Override
+    public String get(String userId) {
+        return stringRedisTemplate.opsForValue().get(RedisKeyUtil.getRefreshTokenKey(userId));
+    }
+
+    @Override
+    public void delete(String userId) {
+        stringRedisTemplate.delete(RedisKeyUtil.getRefreshTokenKey(userId));
+    }
+
+    @Override
+    public boolean rotate(String userId, String expected, String newToken, Duration ttl) {
+        Long result = stringRedisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(RedisKeyUtil.getRefreshTokenKey(userId)),
+                expected, newToken, String.valueOf(ttl.toSeconds())
+        );
+        return result != null && result == 1L;
+    }
+}
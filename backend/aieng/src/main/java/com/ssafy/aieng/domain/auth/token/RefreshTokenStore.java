@@ -0,0 +1,20 @@
+package com.ssafy.aieng.domain.auth.token;
+
+import java.time.Duration;
+
+/**
+ * 리프레시 토큰 저장소 (userId당 1개)
+ * - redis: 여러 서버가 함께 사용 (운영)
+ * - memory: 로컬 테스트용
+ */
+public interface RefreshTokenStore {
+
+    void save(String userId, String refreshToken, Duration ttl);
+
+    String get(String userId);
+
+    void delete(String userId);
+
+    // 저장된 토큰이 expected와 같을 때만 newToken으로 교체 (동시 재발급 시 하나만 성공)
+    boolean rotate(String userId, String expected, String newToken, Duration ttl);
+}
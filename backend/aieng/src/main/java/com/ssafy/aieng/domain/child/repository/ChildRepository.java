@@ -2,6 +2,8 @@ package com.ssafy.aieng.domain.child.repository;
 
 import com.ssafy.aieng.domain.child.entity.Child;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +20,8 @@ public interface ChildRepository extends JpaRepository<Child, Integer> {
 
     // 세션 ID로 그림책(Storybook) 조회
     List<Child> findAllByUserIdAndDeletedFalse(Integer userId);
+
+    // 유저가 소유한 자녀 ID 목록 (소유 검증 캐시용)
+    @Query("SELECT c.id FROM Child c WHERE c.user.id = :userId")
+    List<Integer> findIdsByUserId(@Param("userId") Integer userId);
 }
@@ -8,6 +8,7 @@ import com.ssafy.aieng.domain.child.entity.Child;
 import com.ssafy.aieng.domain.child.repository.ChildRepository;
 import com.ssafy.aieng.domain.user.entity.User;
 import com.ssafy.aieng.domain.user.repository.UserRepository;
+import com.ssafy.aieng.global.common.CustomAuthentication;
 import com.ssafy.aieng.global.error.ErrorCode;
 import com.ssafy.aieng.global.error.exception.CustomException;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,7 @@ public class ChildService {
 
     private final UserRepository userRepository;
     private final ChildRepository childRepository;
+    private final CustomAuthentication customAuthentication;
 
     // 아이 프로필 생성
     @Transactional
@@ -52,6 +54,9 @@ public class ChildService {
                 .build();
 
         childRepository.save(child);
+
+        // 4. 소유 검증 캐시 무효화
+        customAuthentication.evictOwnedChildren(userId);
     }
 
 
@@ -93,6 +98,9 @@ public class ChildService {
 
         // 2. Soft delete 처리
         child.deleteChildProfile();
+
+        // 3. 소유 검증 캐시 무효화
+        customAuthentication.evictOwnedChildren(userId);
     }
 
     // 아이 프로필 이미지 등록, 수정, 삭제 (아이 등록 후에 사용하는 기능)
@@ -120,7 +128,7 @@ public class ChildService {
 
     // 부모와 자녀가 맞는지 확인
     public void validateChildOwnership(Integer childId, Integer userId) {
-        if (!childRepository.existsByIdAndUserId(childId, userId)) {
+        if (!customAuthentication.isOwner(userId, childId)) {
             throw new CustomException(ErrorCode.FORBIDDEN_CHILD_ACCESS)
                     .addParameter("childId", childId)
                     .addParameter("userId", userId);
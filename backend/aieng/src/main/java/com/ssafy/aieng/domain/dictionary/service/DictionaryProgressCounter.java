@@ -0,0 +1,123 @@
+package com.ssafy.aieng.domain.dictionary.service;
+
+import com.ssafy.aieng.domain.learning.repository.LearningRepository;
+import com.ssafy.aieng.domain.learning.repository.ThemeLearnedCountView;
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 자녀별 테마 학습 단어 수 카운터 (Redis Hash: themeId -> 학습 단어 수)
+ * - 비활성화(기본값) 시 매번 집계 쿼리로 조회
+ * - 키가 없으면 집계 쿼리로 채우고, 새 단어 학습 시 커밋 이후 증가
+ * - 학습 기록이 삭제되는 경우(단어 다시 섞기)에는 키를 지워 다음 조회 시 다시 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DictionaryProgressCounter {
+
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private final LearningRepository learningRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${dictionary.progress-counter.enabled:false}")
+    private boolean enabled;
+
+    // themeId -> 학습 완료 단어 수
+    public Map<Integer, Long> getLearnedCounts(Integer childId) {
+        if (!enabled) {
+            return aggregate(childId);
+        }
+
+        String key = RedisKeyUtil.getDictionaryProgressKey(childId);
+        try {
+            Map<Object, Object> cached = stringRedisTemplate.opsForHash().entries(key);
+            if (!cached.isEmpty()) {
+                return cached.entrySet().stream()
+                        .collect(Collectors.toMap(
+                                e -> Integer.valueOf((String) e.getKey()),
+                                e -> Long.valueOf((String) e.getValue())
+                        ));
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 단어도감 진행률 카운터 조회 실패: childId={}", childId, e);
+            return aggregate(childId);
+        }
+
+        Map<Integer, Long> counts = aggregate(childId);
+        if (!counts.isEmpty()) {
+            Map<String, String> fields = new HashMap<>();
+            counts.forEach((themeId, count) -> fields.put(String.valueOf(themeId), String.valueOf(count)));
+            try {
+                stringRedisTemplate.opsForHash().putAll(key, fields);
+                stringRedisTemplate.expire(key, TTL);
+            } catch (Exception e) {
+                log.warn("⚠️ 단어도감 진행률 카운터 저장 실패: childId={}", childId, e);
+            }
+        }
+        return counts;
+    }
+
+    // 자녀가 처음 학습한 단어일 때 호출 (커밋 이후 반영)
+    public void incrementAfterCommit(Integer childId, Integer themeId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            String key = RedisKeyUtil.getDictionaryProgressKey(childId);
+            // 키가 없으면 다음 조회 때 집계되므로 증가하지 않음
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+                stringRedisTemplate.opsForHash().increment(key, String.valueOf(themeId), 1);
+            }
+        });
+    }
+
+    public void evictAfterCommit(Integer childId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> stringRedisTemplate.delete(RedisKeyUtil.getDictionaryProgressKey(childId)));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private Map<Integer, Long> aggregate(Integer childId) {
+        return learningRepository.countLearnedWordsByTheme(childId).stream()
+                .collect(Collectors.toMap(ThemeLearnedCountView::getThemeId, ThemeLearnedCountView::getLearnedCount));
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable safe = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                // TTL 만료 후 다시 집계됨
+                log.warn("⚠️ 단어도감 진행률 카운터 갱신 실패", e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safe.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safe.run();
+            }
+        });
+    }
+}
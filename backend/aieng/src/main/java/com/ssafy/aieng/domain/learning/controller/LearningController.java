@@ -5,12 +5,18 @@ import com.ssafy.aieng.domain.learning.dto.response.GeneratedContentResult;
 import com.ssafy.aieng.domain.learning.dto.response.LearningSessionDetailResponse;
 import com.ssafy.aieng.domain.learning.dto.response.SentenceResponse;
 import com.ssafy.aieng.domain.learning.service.LearningService;
+import com.ssafy.aieng.domain.learning.service.SessionGenerationStreamService;
+import com.ssafy.aieng.domain.learning.service.WordGenerationService;
 import com.ssafy.aieng.global.common.response.ApiResponse;
 import com.ssafy.aieng.global.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,6 +24,8 @@ import org.springframework.web.bind.annotation.*;
 public class LearningController {
 
     private final LearningService learningService;
+    private final WordGenerationService wordGenerationService;
+    private final SessionGenerationStreamService sessionGenerationStreamService;
 
     // 특정 세션에 포함된 학습 단어 전체 조회 (6개 고정)
     @GetMapping("/sessions/{sessionId}/words")
@@ -30,16 +38,26 @@ public class LearningController {
         return ApiResponse.success(response);
     }
 
-    // fastapi 요청 및 응답 그리고 학습완료
+    // fastapi 요청 및 응답 그리고 학습완료 (비동기 처리: 결과 도착 시 응답)
     @PostMapping("/sessions/{sessionId}/words/{wordEn}/generation")
-    public ResponseEntity<ApiResponse<GeneratedContentResult>> requestAndSaveGeneration(
+    public CompletableFuture<ResponseEntity<ApiResponse<GeneratedContentResult>>> requestAndSaveGeneration(
             @AuthenticationPrincipal UserPrincipal user,
             @RequestHeader("X-Child-Id") Integer childId,
             @PathVariable Integer sessionId,
             @PathVariable String wordEn
     ) {
-        GeneratedContentResult result = learningService.sendRequestAndSave(user.getId(), childId, sessionId, wordEn);
-        return ApiResponse.success(result);
+        return wordGenerationService.generate(user.getId(), childId, sessionId, wordEn)
+                .thenApply(result -> ApiResponse.success(result));
+    }
+
+    // 세션의 남은 단어 일괄 생성 (단어별 결과를 SSE로 전송, 저장은 마지막에 한 번)
+    @PostMapping(value = "/sessions/{sessionId}/generation", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter requestAndSaveSessionGeneration(
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestHeader("X-Child-Id") Integer childId,
+            @PathVariable Integer sessionId
+    ) {
+        return sessionGenerationStreamService.generateAll(user.getId(), childId, sessionId);
     }
 
     // 아이가 생성한 문장 정보 반환
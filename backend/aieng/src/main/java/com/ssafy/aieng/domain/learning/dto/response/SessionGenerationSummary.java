@@ -0,0 +1,21 @@
+package com.ssafy.aieng.domain.learning.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 세션 일괄 생성 완료 요약 (SSE "done" 이벤트)
+@Getter
+@AllArgsConstructor
+public class SessionGenerationSummary {
+
+    private Integer sessionId;
+    private int requestedCount;
+    private int generatedCount;
+    private int savedCount;
+    private boolean saveSucceeded;
+
+    public static SessionGenerationSummary of(Integer sessionId, int requestedCount, int generatedCount,
+                                              int savedCount, boolean saveSucceeded) {
+        return new SessionGenerationSummary(sessionId, requestedCount, generatedCount, savedCount, saveSucceeded);
+    }
+}
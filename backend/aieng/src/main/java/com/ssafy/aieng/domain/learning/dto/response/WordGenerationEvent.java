@@ -0,0 +1,22 @@
+package com.ssafy.aieng.domain.learning.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 세션 일괄 생성 중 단어 1개의 생성 결과 (SSE "word" 이벤트)
+@Getter
+@AllArgsConstructor
+public class WordGenerationEvent {
+
+    private String wordEn;
+    private boolean success;
+    private GeneratedContentResult result;
+
+    public static WordGenerationEvent success(String wordEn, GeneratedContentResult result) {
+        return new WordGenerationEvent(wordEn, true, result);
+    }
+
+    public static WordGenerationEvent failure(String wordEn) {
+        return new WordGenerationEvent(wordEn, false, null);
+    }
+}
@@ -16,7 +16,10 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "learning")
+@Table(name = "learning", indexes = {
+        // 자녀별 학습 완료 단어 집계용 커버링 인덱스 (session → learned → word)
+        @Index(name = "idx_learning_session_learned_word", columnList = "session_id, learned, word_id")
+})
 public class Learning extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,6 +31,13 @@ public interface LearningRepository extends JpaRepository<Learning, Integer> {
     // 세션 ID로 삭제되지 않은 Learning 목록 조회
     List<Learning> findAllBySessionIdAndDeletedFalse(Integer sessionId);
 
+    // 세션 ID로 삭제되지 않은 Learning 목록 + 단어 함께 조회 (일괄 생성용)
+    @Query("""
+        SELECT l FROM Learning l JOIN FETCH l.word
+        WHERE l.session.id = :sessionId AND l.deleted = false
+        """)
+    List<Learning> findAllWithWordBySessionId(@Param("sessionId") Integer sessionId);
+
     // 세션 ID로 학습 완료(learned)된 Learning 개수 반환
     long countBySessionIdAndLearned(Integer sessionId, boolean b);
 
@@ -43,4 +50,27 @@ public interface LearningRepository extends JpaRepository<Learning, Integer> {
     // 자녀 ID로 학습 완료된 Learning 전체 조회 (세션 구분 없음)
     List<Learning> findAllBySession_Child_IdAndLearnedTrue(Integer childId);
 
+    // 자녀의 테마별 학습 완료 단어 수 (같은 단어를 여러 세션에서 학습해도 1개로 집계)
+    @Query("""
+        SELECT w.theme.id AS themeId, COUNT(DISTINCT w.id) AS learnedCount
+        FROM Learning l JOIN l.word w
+        WHERE l.session.child.id = :childId AND l.learned = true
+        GROUP BY w.theme.id
+        """)
+    List<ThemeLearnedCountView> countLearnedWordsByTheme(@Param("childId") Integer childId);
+
+    // 자녀가 특정 테마에서 학습 완료한 단어 ID 목록 (중복 제거)
+    @Query("""
+        SELECT DISTINCT l.word.id FROM Learning l
+        WHERE l.session.child.id = :childId AND l.learned = true AND l.word.theme.id = :themeId
+        """)
+    List<Integer> findLearnedWordIds(@Param("childId") Integer childId, @Param("themeId") Integer themeId);
+
+    // 자녀가 해당 단어를 (다른 세션 포함) 이미 학습했는지 여부
+    @Query("""
+        SELECT COUNT(l) > 0 FROM Learning l
+        WHERE l.session.child.id = :childId AND l.word.id = :wordId AND l.learned = true
+        """)
+    boolean existsLearnedWord(@Param("childId") Integer childId, @Param("wordId") Integer wordId);
+
 }
\ No newline at end of file
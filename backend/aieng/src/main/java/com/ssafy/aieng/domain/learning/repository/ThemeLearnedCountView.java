@@ -0,0 +1,9 @@
+package com.ssafy.aieng.domain.learning.repository;
+
+// 테마별 학습 완료 단어 수 projection (단어도감 진행률용)
+public interface ThemeLearnedCountView {
+
+    Integer getThemeId();
+
+    Long getLearnedCount();
+}
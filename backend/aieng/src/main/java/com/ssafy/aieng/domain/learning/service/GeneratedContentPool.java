@@ -0,0 +1,137 @@
+package com.ssafy.aieng.domain.learning.service;
+
+import com.ssafy.aieng.domain.learning.dto.request.GenerateContentRequest;
+import com.ssafy.aieng.domain.learning.dto.response.GeneratedContentResult;
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import com.ssafy.aieng.global.config.ContentReuseProperties;
+import com.ssafy.aieng.global.infra.fastapi.codec.GeneratedResultCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 세션 간 단어 콘텐츠 재사용 풀
+ * - (단어, 테마, 목소리)가 같으면 다른 자녀를 위해 생성한 문장/이미지/TTS를 재사용
+ * - 풀에서 무작위로 골라 자녀마다 다른 콘텐츠가 나오도록 함
+ * - freshnessRatio 비율만큼은 새로 생성해 풀을 계속 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeneratedContentPool {
+
+    private static final Duration RESULT_TTL = Duration.ofHours(24);
+    private static final int VOICE_HASH_LENGTH = 16;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final GeneratedResultCodec generatedResultCodec;
+    private final ContentReuseProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private Counter hits;
+    private Counter misses;
+    private Counter fresh;
+
+    @PostConstruct
+    public void init() {
+        hits = Counter.builder("content.reuse").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("content.reuse").tag("result", "miss").register(meterRegistry);
+        fresh = Counter.builder("content.reuse").tag("result", "fresh").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 재사용할 생성 결과 선택
+     * @return 새로 생성해야 하면 null
+     */
+    public GeneratedContentResult pick(GenerateContentRequest request) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < properties.getFreshnessRatio()) {
+            fresh.increment();
+            return null;
+        }
+
+        try {
+            List<String> variants = stringRedisTemplate.opsForList().range(poolKey(request), 0, -1);
+            if (variants == null || variants.size() < Math.max(1, properties.getMinPoolSize())) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return generatedResultCodec.decodeContent(variants.get(random.nextInt(variants.size())));
+        } catch (Exception e) {
+            // 풀 장애 시 새로 생성
+            log.warn("⚠️ 단어 콘텐츠 풀 조회 실패: word={}", request.getWordEn(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 재사용한 콘텐츠를 해당 세션의 생성 결과 키에 저장
+     * - 새로 생성한 경우와 같은 위치에 두어 이후 조회/동요 생성에서 그대로 사용
+     */
+    public void storeAsResult(String resultKey, GeneratedContentResult result) {
+        stringRedisTemplate.opsForValue().set(resultKey, generatedResultCodec.encodeJson(result), RESULT_TTL);
+    }
+
+    // 새로 생성한 결과를 풀에 추가 (최신 poolSize개만 유지)
+    public void add(GenerateContentRequest request, GeneratedContentResult result) {
+        if (!properties.isEnabled() || result == null) {
+            return;
+        }
+
+        String key = poolKey(request);
+        String json = generatedResultCodec.encodeJson(result);
+        long ttlSeconds = properties.getTtl().toSeconds();
+        int poolSize = Math.max(1, properties.getPoolSize());
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                conn.lPush(key, json);
+                conn.lTrim(key, 0, poolSize - 1);
+                conn.expire(key, ttlSeconds);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("⚠️ 단어 콘텐츠 풀 저장 실패: word={}", request.getWordEn(), e);
+        }
+    }
+
+    // 목소리 URL은 길어서 해시 일부만 키에 사용
+    private static String poolKey(GenerateContentRequest request) {
+        return RedisKeyUtil.getContentPoolKey(request.getWordEn(), request.getTheme(), voiceHash(request.getTtsVoiceUrl()));
+    }
+
+    private static String voiceHash(String ttsVoiceUrl) {
+        if (ttsVoiceUrl == null) {
+            return "none";
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(ttsVoiceUrl.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest).substring(0, VOICE_HASH_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,11 +1,9 @@
 package com.ssafy.aieng.domain.learning.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.ssafy.aieng.domain.child.entity.Child;
 import com.ssafy.aieng.domain.child.repository.ChildRepository;
 import com.ssafy.aieng.domain.child.service.ChildService;
+import com.ssafy.aieng.domain.dictionary.service.DictionaryProgressCounter;
 import com.ssafy.aieng.domain.learning.dto.request.GenerateContentRequest;
 import com.ssafy.aieng.domain.learning.dto.response.GeneratedContentResult;
 import com.ssafy.aieng.domain.learning.dto.response.LearningSessionDetailResponse;
@@ -17,25 +15,23 @@ import com.ssafy.aieng.domain.session.repository.SessionRepository;
 import com.ssafy.aieng.domain.theme.repository.ThemeRepository;
 import com.ssafy.aieng.domain.user.repository.UserRepository;
 import com.ssafy.aieng.domain.voice.entity.Voice;
-import com.ssafy.aieng.domain.voice.repository.VoiceRepository;
 import com.ssafy.aieng.domain.word.entity.Word;
 import com.ssafy.aieng.domain.word.repository.WordRepository;
 import com.ssafy.aieng.global.common.redis.service.RedisService;
-import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import com.ssafy.aieng.global.common.CustomAuthentication;
+import com.ssafy.aieng.global.common.cache.ReferenceDataCache;
 import com.ssafy.aieng.global.error.ErrorCode;
 import com.ssafy.aieng.global.error.exception.CustomException;
+import com.ssafy.aieng.global.infra.fastapi.client.FastApiClient;
+import com.ssafy.aieng.global.infra.fastapi.constants.FastApiEndpoint;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 
 import java.time.Duration;
@@ -50,31 +46,23 @@ public class LearningService {
     private final SessionRepository sessionRepository;
     private final WordRepository wordRepository;
     private final ChildRepository childRepository;
-    private final VoiceRepository voiceRepository;
-    private final StringRedisTemplate stringRedisTemplate;
-    private final ObjectMapper objectMapper;
+    private final CustomAuthentication customAuthentication;
+    private final ReferenceDataCache referenceDataCache;
+    private final DictionaryProgressCounter dictionaryProgressCounter;
+    private final FastApiClient fastApiClient;
 
     private static final Duration REDIS_TTL = Duration.ofHours(24);
 
-    // 유저, 아이 검증
-    private void validateChildOwnership(Integer userId, Integer childId) {
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
-    }
-
     // 한 세션에 단어 목록 조회 (랜덤 6개 조회)
     @Transactional(readOnly = true)
     public LearningSessionDetailResponse getLearningSessionDetail(Integer userId, Integer childId, Integer sessionId) {
         Session session = sessionRepository.findByIdAndDeletedFalse(sessionId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
 
-        if (!session.getChild().getUser().getId().equals(userId)
-                || !session.getChild().getId().equals(childId)) {
+        if (!session.getChild().getId().equals(childId)) {
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
         }
+        customAuthentication.validateChildOwnership(userId, childId);
 
         List<Learning> learnings = learningRepository.findAllBySessionIdAndDeletedFalse(sessionId);
         return LearningSessionDetailResponse.of(session, learnings);
@@ -82,102 +70,102 @@ public class LearningService {
 
 
     /**
-     * FastAPI에 단어 생성 요청 전송 (문장, 이미지, TTS)
-     * - Redis에 결과가 저장되기를 기다리지 않음
-     * - 프론트에서 이후 polling으로 결과 조회
+     * FastAPI 단어 생성 요청 생성 (문장, 이미지, TTS)
+     * - 검증과 조회만 짧은 읽기 트랜잭션에서 처리
+     * - 실제 전송은 WordGenerationService가 비동기로 수행
      */
     @Transactional(readOnly = true)
-    public void sendFastApiRequest(Integer userId, Integer childId, Integer sessionId, String wordEn) {
-        validateChildOwnership(userId, childId);
+    public GenerateContentRequest prepareGenerationRequest(Integer userId, Integer childId, Integer sessionId, String wordEn) {
+        customAuthentication.validateChildOwnership(userId, childId);
 
         Session session = sessionRepository.findById(sessionId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
-        String themeKo = session.getTheme().getThemeKo();
+        String themeKo = resolveThemeKo(session);
 
-        Word wordEntity = wordRepository.findByWordEn(wordEn)
+        wordRepository.findByWordEn(wordEn)
                 .orElseThrow(() -> new CustomException(ErrorCode.WORD_NOT_FOUND));
 
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-
-        String ttsVoiceUrl = null;
-        if (child.getTtsVoice() != null && child.getTtsVoice().getAudioUrl() != null) {
-            ttsVoiceUrl = child.getTtsVoice().getAudioUrl();
-        } else {
-            List<Voice> allVoices = voiceRepository.findAll();
-            if (allVoices.isEmpty()) {
-                throw new CustomException(ErrorCode.VOICE_NOT_FOUND);
-            }
-            Voice randomVoice = allVoices.get(new Random().nextInt(allVoices.size()));
-            ttsVoiceUrl = randomVoice.getAudioUrl();
-        }
-
-        GenerateContentRequest request = GenerateContentRequest.builder()
+        return GenerateContentRequest.builder()
                 .userId(userId)
                 .sessionId(sessionId)
                 .theme(themeKo)
                 .wordEn(wordEn)
-                .ttsVoiceUrl(ttsVoiceUrl)
+                .ttsVoiceUrl(resolveTtsVoiceUrl(childId))
                 .build();
+    }
 
-        try {
-            RestTemplate restTemplate = new RestTemplate();
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<GenerateContentRequest> entity = new HttpEntity<>(request, headers);
-
-            restTemplate.postForEntity(
-                    "http://175.121.93.70:51528/words/",
-                    entity,
-                    String.class
-            );
-
-            log.info("📤 FastAPI 요청 전송 완료: userId={}, sessionId={}, word={}, ttsVoiceUrl={}", userId, sessionId, wordEn, ttsVoiceUrl);
-        } catch (Exception e) {
-            log.error("❌ FastAPI 요청 실패: sessionId={}, word={}", sessionId, wordEn, e);
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    /**
+     * 세션의 아직 학습하지 않은 단어 전체에 대한 생성 요청 (일괄 생성용)
+     * - 소유자 검증, 세션/테마/목소리 조회를 단어마다 반복하지 않고 한 번만 수행
+     */
+    @Transactional(readOnly = true)
+    public List<GenerateContentRequest> prepareSessionGenerationRequests(Integer userId, Integer childId, Integer sessionId) {
+        customAuthentication.validateChildOwnership(userId, childId);
+
+        Session session = sessionRepository.findByIdAndDeletedFalse(sessionId)
+                .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
+        if (!session.getChild().getId().equals(childId)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
         }
+
+        String themeKo = resolveThemeKo(session);
+        String ttsVoiceUrl = resolveTtsVoiceUrl(childId);
+
+        return learningRepository.findAllWithWordBySessionId(sessionId).stream()
+                .filter(learning -> !learning.isLearned())
+                .map(learning -> GenerateContentRequest.builder()
+                        .userId(userId)
+                        .sessionId(sessionId)
+                        .theme(themeKo)
+                        .wordEn(learning.getWord().getWordEn())
+                        .ttsVoiceUrl(ttsVoiceUrl)
+                        .build())
+                .toList();
     }
 
+    private String resolveThemeKo(Session session) {
+        return referenceDataCache.findTheme(session.getTheme().getId())
+                .orElseThrow(() -> new CustomException(ErrorCode.THEME_NOT_FOUND))
+                .getThemeKo();
+    }
+
+    private String resolveTtsVoiceUrl(Integer childId) {
+        Child child = childRepository.findById(childId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
+
+        if (child.getTtsVoice() != null && child.getTtsVoice().getAudioUrl() != null) {
+            return child.getTtsVoice().getAudioUrl();
+        }
+
+        // 기본 목소리 중 랜덤 (다른 자녀의 커스텀 목소리는 제외)
+        List<Voice> defaultVoices = referenceDataCache.getDefaultVoices();
+        if (defaultVoices.isEmpty()) {
+            throw new CustomException(ErrorCode.VOICE_NOT_FOUND);
+        }
+        Voice randomVoice = defaultVoices.get(ThreadLocalRandom.current().nextInt(defaultVoices.size()));
+        return randomVoice.getAudioUrl();
+    }
 
     /**
-     * Redis에서 생성 결과를 조회하고, Learning 테이블에 저장
-     * - 이미 저장된 경우 중복 저장 생략
-     * - 프론트에서 /generate/result 호출 시 자동으로 저장됨
+     * FastAPI에 단어 생성 요청 전송
+     * - 트랜잭션 밖에서 호출되어야 함 (DB 커넥션을 잡고 기다리지 않도록)
+     * - 결과는 Redis 저장 + Pub/Sub 알림으로 전달됨
      */
-    @Transactional
-    public GeneratedContentResult sendRequestAndSave(Integer userId, Integer childId, Integer sessionId, String wordEn) {
-        validateChildOwnership(userId, childId);
-
-        // FastAPI 요청 보내기
-        sendFastApiRequest(userId, childId, sessionId, wordEn);
-
-        // Redis polling
-        String key = RedisKeyUtil.getGeneratedContentKey(userId, sessionId, wordEn);
-        String json = null;
-
-        int retry = 0;
-        while (retry < 10) {
-            json = stringRedisTemplate.opsForValue().get(key);
-            if (json != null) break;
-            try {
-                Thread.sleep(500); // 0.5초 대기 후 재시도
-            } catch (InterruptedException ignored) {}
-            retry++;
-        }
+    public void sendFastApiRequest(GenerateContentRequest request) {
+        fastApiClient.postJson(FastApiEndpoint.WORDS, request);
 
-        if (json == null) throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND);
+        log.info("📤 FastAPI 요청 전송 완료: userId={}, sessionId={}, word={}, ttsVoiceUrl={}",
+                request.getUserId(), request.getSessionId(), request.getWordEn(), request.getTtsVoiceUrl());
+    }
 
-        GeneratedContentResult result;
-        try {
-            // 전역 ObjectMapper 영향을 주지 않도록 copy() 사용
-            ObjectMapper snakeMapper = objectMapper.copy();
-            snakeMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
-            result = snakeMapper.readValue(json, GeneratedContentResult.class);
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
 
+    /**
+     * Redis에 도착한 생성 결과를 Learning 테이블에 저장
+     * - 결과 도착 후 짧은 트랜잭션으로만 처리
+     * - 이미 저장된 경우 중복 저장 생략
+     */
+    @Transactional
+    public GeneratedContentResult saveGeneratedContent(Integer sessionId, String wordEn, GeneratedContentResult result) {
         // DB 저장 처리
         Session session = sessionRepository.findByIdAndDeletedFalse(sessionId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
@@ -188,9 +176,18 @@ public class LearningService {
 
         try {
             if (!learning.isLearned()) {
+                // 자녀가 처음 학습한 단어면 단어도감 진행률 카운터 증가 (다른 세션에서 학습한 단어는 제외)
+                Integer childId = session.getChild().getId();
+                boolean firstLearned = dictionaryProgressCounter.isEnabled()
+                        && !learningRepository.existsLearnedWord(childId, wordEntity.getId());
+
                 learning.updateContent(result);
                 learningRepository.save(learning);
                 session.incrementLearnedCount();
+
+                if (firstLearned) {
+                    dictionaryProgressCounter.incrementAfterCommit(childId, wordEntity.getTheme().getId());
+                }
             }
         } catch (ObjectOptimisticLockingFailureException e) {
             log.warn("🔄 중복 저장 방지: 이미 저장된 Learning 데이터 - sessionId={}, word={}", sessionId, wordEn);
@@ -202,11 +199,51 @@ public class LearningService {
         return result;
     }
 
+    /**
+     * 세션 일괄 생성 결과를 한 트랜잭션으로 저장
+     * - 진행률(learnedWordCount)은 단어마다가 아니라 한 번만 갱신 → 세션 버전 충돌 감소
+     * - 이미 저장된 단어는 건너뜀
+     * @return 새로 학습 완료 처리된 단어 수
+     */
+    @Transactional
+    public int saveGeneratedContents(Integer sessionId, Map<String, GeneratedContentResult> resultsByWord) {
+        Session session = sessionRepository.findByIdAndDeletedFalse(sessionId)
+                .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
+        Integer childId = session.getChild().getId();
+
+        int newlyLearned = 0;
+        for (Learning learning : learningRepository.findAllWithWordBySessionId(sessionId)) {
+            GeneratedContentResult result = resultsByWord.get(learning.getWord().getWordEn());
+            if (result == null || learning.isLearned()) {
+                continue;
+            }
+
+            Word word = learning.getWord();
+            boolean firstLearned = dictionaryProgressCounter.isEnabled()
+                    && !learningRepository.existsLearnedWord(childId, word.getId());
+
+            learning.updateContent(result);
+            newlyLearned++;
+
+            if (firstLearned) {
+                dictionaryProgressCounter.incrementAfterCommit(childId, word.getTheme().getId());
+            }
+        }
+
+        if (newlyLearned > 0) {
+            session.incrementLearnedCount(newlyLearned);
+        }
+
+        log.info("✅ 일괄 학습 완료 후 진행률: sessionId={}, saved={}, learned={}, rate={}",
+                sessionId, newlyLearned, session.getLearnedWordCount(), session.getProgressRate());
+        return newlyLearned;
+    }
+
     // 생성한 문장 관련 정보 조회
     @Transactional(readOnly = true)
     public SentenceResponse getSentenceResponse(Integer userId, Integer childId, Integer sessionId, String wordEn) {
         // 1️⃣ 자녀 소유자 검증
-        validateChildOwnership(userId, childId);
+        customAuthentication.validateChildOwnership(userId, childId);
 
         // 2️⃣ 단어 엔티티 조회
         Word word = wordRepository.findByWordEn(wordEn)
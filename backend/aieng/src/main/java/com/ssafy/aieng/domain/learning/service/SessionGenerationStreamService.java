@@ -0,0 +1,123 @@
+package com.ssafy.aieng.domain.learning.service;
+
+import com.ssafy.aieng.domain.learning.dto.request.GenerateContentRequest;
+import com.ssafy.aieng.domain.learning.dto.response.GeneratedContentResult;
+import com.ssafy.aieng.domain.learning.dto.response.SessionGenerationSummary;
+import com.ssafy.aieng.domain.learning.dto.response.WordGenerationEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 세션 단어 일괄 생성 (SSE)
+ * - 검증/조회는 세션당 한 번, 단어별 FastAPI 요청은 WordGenerationService의 작업 스레드 수만큼만 동시에 전송
+ * - 단어별 결과는 도착하는 대로 "word" 이벤트로 전송
+ * - 모든 결과가 모이면 한 트랜잭션으로 저장 후 "done" 이벤트 전송
+ *   (마지막 결과를 완료한 스레드는 Redis 알림 수신 스레드나 타임아웃 스레드일 수 있으므로 저장은 전용 스레드에서 수행)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionGenerationStreamService {
+
+    private static final Duration STREAM_TIMEOUT = Duration.ofMinutes(3);
+    private static final String WORD_EVENT = "word";
+    private static final String DONE_EVENT = "done";
+    private static final int SAVE_THREADS = 2;
+
+    private final LearningService learningService;
+    private final WordGenerationService wordGenerationService;
+
+    private ExecutorService saveExecutor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        saveExecutor = Executors.newFixedThreadPool(SAVE_THREADS, r -> {
+            Thread t = new Thread(r, "session-generation-save-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        saveExecutor.shutdown();
+    }
+
+    public SseEmitter generateAll(Integer userId, Integer childId, Integer sessionId) {
+        // 1. 검증 실패는 스트림 시작 전에 예외
+        List<GenerateContentRequest> requests = learningService.prepareSessionGenerationRequests(userId, childId, sessionId);
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT.toMillis());
+
+        // 2. 단어별 생성 요청, 도착하는 대로 전송
+        Map<String, GeneratedContentResult> results = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] tasks = requests.stream()
+                .map(request -> wordGenerationService.fetchContent(request)
+                        .thenAccept(result -> {
+                            results.put(request.getWordEn(), result);
+                            send(emitter, WORD_EVENT, WordGenerationEvent.success(request.getWordEn(), result));
+                        })
+                        .exceptionally(ex -> {
+                            log.warn("❌ 일괄 생성 중 단어 생성 실패: sessionId={}, word={}", sessionId, request.getWordEn(), ex);
+                            send(emitter, WORD_EVENT, WordGenerationEvent.failure(request.getWordEn()));
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new);
+
+        // 3. 전체 결과를 한 번에 저장 (저장 전용 스레드)
+        CompletableFuture.allOf(tasks).whenCompleteAsync((ignored, ex) -> {
+            int saved = 0;
+            boolean saveSucceeded = true;
+            try {
+                saved = saveAll(sessionId, results);
+            } catch (Exception e) {
+                saveSucceeded = false;
+                log.error("❌ 일괄 생성 결과 저장 실패: sessionId={}", sessionId, e);
+            }
+            send(emitter, DONE_EVENT, SessionGenerationSummary.of(
+                    sessionId, requests.size(), results.size(), saved, saveSucceeded));
+            emitter.complete();
+        }, saveExecutor);
+        return emitter;
+    }
+
+    // 같은 세션 단어를 개별 API로 동시에 저장한 경우 버전 충돌 → 한 번 더 시도 (이미 저장된 단어는 건너뜀)
+    private int saveAll(Integer sessionId, Map<String, GeneratedContentResult> results) {
+        if (results.isEmpty()) {
+            return 0;
+        }
+        try {
+            return learningService.saveGeneratedContents(sessionId, results);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("🔄 일괄 저장 버전 충돌, 재시도: sessionId={}", sessionId);
+            return learningService.saveGeneratedContents(sessionId, results);
+        }
+    }
+
+    // 여러 작업 스레드에서 동시에 보내지 않도록 emitter 단위로 직렬화
+    private void send(SseEmitter emitter, String name, Object data) {
+        synchronized (emitter) {
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data));
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료 (생성/저장은 계속 진행)
+                log.debug("SSE 전송 생략 (연결 종료): event={}", name);
+            }
+        }
+    }
+}
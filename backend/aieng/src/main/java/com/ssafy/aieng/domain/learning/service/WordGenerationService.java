@@ -0,0 +1,285 @@
+package com.ssafy.aieng.domain.learning.service;
+
+import com.ssafy.aieng.domain.learning.dto.request.GenerateContentRequest;
+import com.ssafy.aieng.domain.learning.dto.response.GeneratedContentResult;
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import com.ssafy.aieng.global.error.ErrorCode;
+import com.ssafy.aieng.global.error.exception.CustomException;
+import com.ssafy.aieng.global.infra.fastapi.codec.GeneratedResultCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 단어 콘텐츠(문장, 이미지, TTS) 비동기 생성 엔진
+ * - 요청 즉시 CompletableFuture(작업 핸들)를 반환하고 서블릿 스레드/DB 커넥션을 점유하지 않음
+ * - FastAPI가 결과를 Redis에 저장한 뒤 발행하는 Pub/Sub 알림으로 완료를 감지 (polling 없음)
+ * - 결과 도착 후 짧은 트랜잭션으로 Learning 갱신
+ * - 같은 단어 중복 요청은 한 번만 생성 (서버 내: 진행 중인 핸들 공유, 서버 간: Redis SETNX 선점)
+ * - 재사용 풀이 켜져 있으면 다른 세션에서 생성한 콘텐츠를 우선 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WordGenerationService implements MessageListener {
+
+    private static final Duration GENERATION_TIMEOUT = Duration.ofSeconds(100);
+    private static final int WORKER_THREADS = 8;
+    // 대기 작업 상한 (넘치면 EXTERNAL_SERVICE_BUSY, 대기만 하다 시간 초과되는 요청이 쌓이지 않도록)
+    private static final int WORKER_QUEUE_CAPACITY = 200;
+
+    // 선점한 서버만 삭제 (TTL 만료 후 다른 서버가 선점한 경우 보호)
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final LearningService learningService;
+    private final GeneratedContentPool generatedContentPool;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final GeneratedResultCodec generatedResultCodec;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // Redis 결과 키 -> 생성 결과 대기 핸들
+    private final Map<String, CompletableFuture<GeneratedContentResult>> pending = new ConcurrentHashMap<>();
+
+    // Redis 결과 키 -> 진행 중인 생성 작업 (같은 요청은 이 핸들을 함께 사용)
+    private final Map<String, CompletableFuture<GeneratedContentResult>> inFlight = new ConcurrentHashMap<>();
+
+    private final String leaseOwner = ManagementFactory.getRuntimeMXBean().getName();
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                WORKER_THREADS, WORKER_THREADS,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(WORKER_QUEUE_CAPACITY),
+                r -> {
+                    Thread t = new Thread(r, "word-generation-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+        );
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.GENERATED_CONTENT_CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        redisMessageListenerContainer.removeMessageListener(this);
+        executor.shutdown();
+    }
+
+    /**
+     * 단어 생성 요청
+     * - 검증 실패는 즉시 예외
+     * - 반환된 핸들은 결과 저장까지 끝나면 완료됨
+     */
+    public CompletableFuture<GeneratedContentResult> generate(Integer userId, Integer childId, Integer sessionId, String wordEn) {
+        // 검증은 요청마다 수행 (진행 중인 작업이 있어도 권한 확인)
+        GenerateContentRequest request = learningService.prepareGenerationRequest(userId, childId, sessionId, wordEn);
+        String key = RedisKeyUtil.getGeneratedContentKey(userId, sessionId, wordEn);
+
+        // 1. 같은 서버에서 진행 중이면 그 결과를 함께 사용
+        CompletableFuture<GeneratedContentResult> mine = new CompletableFuture<>();
+        CompletableFuture<GeneratedContentResult> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            log.info("⏭️ 진행 중인 단어 생성 결과 공유: sessionId={}, word={}", sessionId, wordEn);
+            return running;
+        }
+        mine.whenComplete((result, ex) -> inFlight.remove(key, mine));
+
+        start(request, key, sessionId, wordEn).whenComplete((result, ex) -> {
+            if (ex != null) {
+                mine.completeExceptionally(ex);
+            } else {
+                mine.complete(result);
+            }
+        });
+        return mine;
+    }
+
+    private CompletableFuture<GeneratedContentResult> start(GenerateContentRequest request, String key,
+                                                            Integer sessionId, String wordEn) {
+        return fetchContent(request, key)
+                .thenApplyAsync(result -> learningService.saveGeneratedContent(sessionId, wordEn, result), executor)
+                .exceptionally(ex -> {
+                    throw translate(ex, sessionId, wordEn);
+                });
+    }
+
+    /**
+     * 생성 결과만 받아옴 (저장은 호출부에서 처리)
+     * - 세션 단위 일괄 생성에서 결과를 모아 한 번에 저장할 때 사용
+     */
+    public CompletableFuture<GeneratedContentResult> fetchContent(GenerateContentRequest request) {
+        String key = RedisKeyUtil.getGeneratedContentKey(request.getUserId(), request.getSessionId(), request.getWordEn());
+        return fetchContent(request, key);
+    }
+
+    private CompletableFuture<GeneratedContentResult> fetchContent(GenerateContentRequest request, String key) {
+        Integer sessionId = request.getSessionId();
+        String wordEn = request.getWordEn();
+
+        // 1. 다른 세션에서 생성한 콘텐츠 재사용
+        GeneratedContentResult reused = generatedContentPool.pick(request);
+        if (reused != null) {
+            log.info("♻️ 단어 콘텐츠 재사용: sessionId={}, word={}", sessionId, wordEn);
+            try {
+                return CompletableFuture.supplyAsync(() -> {
+                    generatedContentPool.storeAsResult(key, reused);
+                    return reused;
+                }, executor);
+            } catch (RejectedExecutionException e) {
+                return CompletableFuture.failedFuture(busy(sessionId, wordEn));
+            }
+        }
+
+        // 알림 유실을 막기 위해 전송 전에 대기 핸들부터 등록
+        CompletableFuture<GeneratedContentResult> completion = pending.computeIfAbsent(key, k -> new CompletableFuture<>());
+        completion.orTimeout(GENERATION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, ex) -> pending.remove(key, completion));
+
+        // 2. 다른 서버가 이미 생성 중이면 FastAPI 요청 없이 완료 알림만 기다림
+        String leaseKey = RedisKeyUtil.getGenerationLeaseKey(request.getUserId(), sessionId, wordEn);
+        if (!tryLease(leaseKey)) {
+            log.info("⏭️ 다른 서버에서 생성 중인 단어, 결과 대기: sessionId={}, word={}", sessionId, wordEn);
+            try {
+                executor.execute(() -> completeFromRedis(key));
+            } catch (RejectedExecutionException e) {
+                // 완료 알림으로 처리됨
+                log.debug("결과 확인 생략 (작업 대기열 가득 참): key={}", key);
+            }
+        } else {
+            completion.whenComplete((result, ex) -> {
+                releaseLease(leaseKey);
+                if (ex == null && generatedContentPool.isEnabled()) {
+                    generatedContentPool.add(request, result);
+                }
+            });
+            try {
+                CompletableFuture.runAsync(() -> {
+                            // 대기열에 있는 동안 시간 초과된 요청은 FastAPI로 보내지 않음
+                            if (completion.isDone()) {
+                                log.warn("⌛ 대기 중 시간 초과된 단어 생성 요청 생략: sessionId={}, word={}", sessionId, wordEn);
+                                return;
+                            }
+                            learningService.sendFastApiRequest(request);
+                        }, executor)
+                        .whenComplete((ignored, ex) -> {
+                            if (ex != null) {
+                                completion.completeExceptionally(ex);
+                            } else {
+                                // FastAPI 응답이 먼저 도착한 경우 (알림 유실 대비)
+                                completeFromRedis(key);
+                            }
+                        });
+            } catch (RejectedExecutionException e) {
+                completion.completeExceptionally(busy(sessionId, wordEn));
+            }
+        }
+        return completion;
+    }
+
+    private boolean tryLease(String leaseKey) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey, leaseOwner, GENERATION_TIMEOUT));
+        } catch (Exception e) {
+            // Redis 장애 시에는 서버 내 중복 방지만 적용하고 생성 진행
+            log.warn("⚠️ 단어 생성 선점 실패, 그대로 진행: key={}", leaseKey, e);
+            return true;
+        }
+    }
+
+    private void releaseLease(String leaseKey) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), leaseOwner);
+        } catch (Exception e) {
+            log.warn("⚠️ 단어 생성 선점 해제 실패 (TTL 후 만료): key={}", leaseKey, e);
+        }
+    }
+
+    // FastAPI 생성 완료 알림 수신 (메시지 본문 = 결과 키)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (pending.containsKey(key)) {
+            try {
+                executor.execute(() -> completeFromRedis(key));
+            } catch (RejectedExecutionException e) {
+                // 대기열이 가득 차도 완료 알림은 놓치지 않도록 리스너 스레드에서 바로 처리
+                completeFromRedis(key);
+            }
+        }
+    }
+
+    private void completeFromRedis(String key) {
+        CompletableFuture<GeneratedContentResult> completion = pending.get(key);
+        if (completion == null || completion.isDone()) {
+            return;
+        }
+        try {
+            GeneratedContentResult result = generatedResultCodec.readContent(key);
+            if (result != null) {
+                completion.complete(result);
+            }
+        } catch (CustomException e) {
+            // 결과는 도착했지만 해석할 수 없는 경우 (재시도해도 같음)
+            completion.completeExceptionally(e);
+        } catch (Exception e) {
+            // 세션 생성 시 저장된 단어 정보(Hash)가 아직 남아 있는 경우
+            log.debug("⏳ 생성 결과 미도착: key={}", key);
+        }
+    }
+
+    private CustomException busy(Integer sessionId, String wordEn) {
+        log.warn("🚦 단어 생성 작업 대기열 가득 참: sessionId={}, word={}", sessionId, wordEn);
+        return new CustomException(ErrorCode.EXTERNAL_SERVICE_BUSY);
+    }
+
+    private CustomException translate(Throwable ex, Integer sessionId, String wordEn) {
+        Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+        if (cause instanceof CustomException customException) {
+            return customException;
+        }
+        if (cause instanceof RejectedExecutionException) {
+            return busy(sessionId, wordEn);
+        }
+        if (cause instanceof TimeoutException) {
+            log.warn("⌛ 단어 생성 결과 대기 시간 초과: sessionId={}, word={}", sessionId, wordEn);
+            return new CustomException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+        log.error("❌ 단어 생성 처리 실패: sessionId={}, word={}", sessionId, wordEn, cause);
+        return new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -2,15 +2,15 @@ package com.ssafy.aieng.domain.quiz.dto.response;
 
 import com.ssafy.aieng.domain.quiz.entity.Quiz;
 import com.ssafy.aieng.domain.quiz.entity.QuizQuestion;
-import com.ssafy.aieng.domain.word.entity.Word;
-import com.ssafy.aieng.domain.word.repository.WordRepository;
 import lombok.Getter;
 import lombok.Setter;
-import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Getter
 @Setter
@@ -21,27 +21,22 @@ public class QuizResponse {
     private List<QuizQuestionResponse> questions;
     private Boolean isCompleted;
 
-    public static QuizResponse of(Quiz quiz, WordRepository wordRepository) {
+    // 단어 영어 이름은 호출부에서 한 번에 조회한 Map으로 전달 (문항별 개별 조회 없음)
+    public static QuizResponse of(Quiz quiz, Map<Integer, String> wordEnById) {
         QuizResponse response = new QuizResponse();
         response.setCreatedAt(quiz.getCreatedAt());
         response.setIsCompleted(quiz.isCompleted());
 
         List<QuizQuestionResponse> questionResponses = new ArrayList<>();
         for (QuizQuestion q : quiz.getQuestions()) {
-            Word ans = wordRepository.findById(q.getAnsWordId()).orElse(null);
-            Word ch1 = wordRepository.findById(q.getCh1Id()).orElse(null);
-            Word ch2 = wordRepository.findById(q.getCh2Id()).orElse(null);
-            Word ch3 = wordRepository.findById(q.getCh3Id()).orElse(null);
-            Word ch4 = wordRepository.findById(q.getCh4Id()).orElse(null);
-
             QuizQuestionResponse dto = QuizQuestionResponse.of(
                     q.getId(),
-                    ans != null ? ans.getWordEn() : null,
+                    wordEnById.get(q.getAnsWordId()),
                     q.getAnsImageUrl(),
-                    ch1 != null ? ch1.getWordEn() : null,
-                    ch2 != null ? ch2.getWordEn() : null,
-                    ch3 != null ? ch3.getWordEn() : null,
-                    ch4 != null ? ch4.getWordEn() : null,
+                    wordEnById.get(q.getCh1Id()),
+                    wordEnById.get(q.getCh2Id()),
+                    wordEnById.get(q.getCh3Id()),
+                    wordEnById.get(q.getCh4Id()),
                     q.getAnsChId(),
                     q.isCompleted()
             );
@@ -53,4 +48,17 @@ public class QuizResponse {
         return response;
     }
 
+    // 퀴즈 렌더링에 필요한 단어 ID (정답 + 보기 4개)
+    public static Set<Integer> collectWordIds(Quiz quiz) {
+        Set<Integer> wordIds = new HashSet<>();
+        for (QuizQuestion q : quiz.getQuestions()) {
+            wordIds.add(q.getAnsWordId());
+            wordIds.add(q.getCh1Id());
+            wordIds.add(q.getCh2Id());
+            wordIds.add(q.getCh3Id());
+            wordIds.add(q.getCh4Id());
+        }
+        return wordIds;
+    }
+
 }
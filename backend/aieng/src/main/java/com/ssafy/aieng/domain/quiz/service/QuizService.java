@@ -11,8 +11,9 @@ import com.ssafy.aieng.domain.session.entity.Session;
 import com.ssafy.aieng.domain.session.repository.SessionRepository;
 import com.ssafy.aieng.domain.word.entity.Word;
 import com.ssafy.aieng.domain.word.repository.WordRepository;
-import com.ssafy.aieng.domain.child.repository.ChildRepository;
+import com.ssafy.aieng.domain.word.service.WordCatalog;
 import com.ssafy.aieng.domain.child.entity.Child;
+import com.ssafy.aieng.global.common.CustomAuthentication;
 import com.ssafy.aieng.global.error.ErrorCode;
 import com.ssafy.aieng.global.error.exception.CustomException;
 import lombok.RequiredArgsConstructor;
@@ -22,37 +23,34 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class QuizService {
 
+    private static final int DISTRACTOR_COUNT = 3;
+    private static final boolean PREFER_SAME_THEME_DISTRACTORS = false;   // true: 같은 테마 단어를 오답으로 우선 사용
+
     private final SessionRepository sessionRepository;
     private final LearningRepository learningRepository;
     private final QuizRepository quizRepository;
     private final QuizQuestionRepository quizQuestionRepository;
     private final WordRepository wordRepository;
-    private final ChildRepository childRepository;
-
-    //  childId가 userId에 속하는지 검증하는 공통 메서드
-    private void validateChildOwnership(Integer userId, Integer childId) {
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
-    }
+    private final CustomAuthentication customAuthentication;
+    private final QuizViewCache quizViewCache;
+    private final WordCatalog wordCatalog;
 
     // 퀴즈 생성 가능 여부: 세션의 모든 단어가 학습 완료된 경우에만 허용
     @Transactional(readOnly = true)
     public boolean checkQuizAvailability(Integer userId, Integer sessionId, Integer childId) {
-        validateChildOwnership(userId, childId);
+        customAuthentication.validateChildOwnership(userId, childId);
 
         Session session = sessionRepository.findById(sessionId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
 
-        if (!session.getChild().getUser().getId().equals(userId)) {
+        if (!customAuthentication.isOwner(userId, session.getChild().getId())) {
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
         }
 
@@ -63,12 +61,12 @@ public class QuizService {
     // 퀴즈 생성
     @Transactional
     public QuizResponse createQuiz(Integer userId, Integer sessionId, Integer childId) {
-        validateChildOwnership(userId, childId);
+        customAuthentication.validateChildOwnership(userId, childId);
 
         Session session = sessionRepository.findById(sessionId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
 
-        if (!session.getChild().getUser().getId().equals(userId)) {
+        if (!customAuthentication.isOwner(userId, session.getChild().getId())) {
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
         }
 
@@ -89,27 +87,26 @@ public class QuizService {
         for (Learning learning : selected) {
             Word correct = learning.getWord();
 
-            List<Word> allWords = wordRepository.findAll();
-            List<Word> incorrectOptions = allWords.stream()
-                    .filter(w -> !w.getId().equals(correct.getId()))
-                    .collect(Collectors.toList());
-            Collections.shuffle(incorrectOptions);
+            // 오답 보기 3개 (단어 카탈로그에서 추출, 단어 테이블 조회 없음)
+            int[] distractorIds = wordCatalog.sampleDistractors(correct.getId(), DISTRACTOR_COUNT, PREFER_SAME_THEME_DISTRACTORS);
 
-            List<Word> options = new ArrayList<>();
-            options.add(correct);
-            options.addAll(incorrectOptions.subList(0, 3));
+            List<Integer> options = new ArrayList<>();
+            options.add(correct.getId());
+            for (int distractorId : distractorIds) {
+                options.add(distractorId);
+            }
             Collections.shuffle(options);
 
-            int correctIdx = options.indexOf(correct) + 1;
+            int correctIdx = options.indexOf(correct.getId()) + 1;
 
             QuizQuestion question = QuizQuestion.create(
                     quiz,
                     correct.getId(),
                     correct.getImgUrl(),
-                    options.get(0).getId(),
-                    options.get(1).getId(),
-                    options.get(2).getId(),
-                    options.get(3).getId(),
+                    options.get(0),
+                    options.get(1),
+                    options.get(2),
+                    options.get(3),
                     correctIdx,
                     "image_matching",
                     "Which image matches the word?"
@@ -119,23 +116,24 @@ public class QuizService {
         }
 
         quizRepository.save(quiz);
-        return QuizResponse.of(quiz, wordRepository);
+        return render(quiz);
     }
 
     // 퀴즈 조회
     @Transactional(readOnly = true)
     public QuizResponse getQuizBySessionId(Integer userId, Integer sessionId, Integer childId) {
-        validateChildOwnership(userId, childId);
+        customAuthentication.validateChildOwnership(userId, childId);
 
         Quiz quiz = quizRepository.findBySessionId(sessionId)
                 .orElseThrow(() -> new CustomException(ErrorCode.QUIZ_NOT_FOUND));
 
         Session session = quiz.getSession();
-        if (!session.getChild().getUser().getId().equals(userId)) {
+        if (!customAuthentication.isOwner(userId, session.getChild().getId())) {
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
         }
 
-        return QuizResponse.of(quiz, wordRepository);
+        // 문항/단어 조회는 캐시 miss 시에만
+        return quizViewCache.get(quiz.getId(), id -> render(quiz));
     }
 
     // 퀴즈 정답 제출
@@ -147,7 +145,7 @@ public class QuizService {
         Session session = question.getQuiz().getSession();
         Child child = session.getChild();
 
-        if (!child.getId().equals(childId) || !child.getUser().getId().equals(userId)) {
+        if (!child.getId().equals(childId) || !customAuthentication.isOwner(userId, childId)) {
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
         }
 
@@ -162,8 +160,18 @@ public class QuizService {
 
         session.markQuizDone();
 
+        // 커밋 이후 퀴즈 조회 캐시 무효화
+        quizViewCache.evictAfterCommit(question.getQuiz().getId());
+
         return isCorrect;
     }
 
+    // 퀴즈 응답 생성 (문항의 단어를 한 번에 조회)
+    private QuizResponse render(Quiz quiz) {
+        Map<Integer, String> wordEnById = wordRepository.findAllById(QuizResponse.collectWordIds(quiz)).stream()
+                .collect(Collectors.toMap(Word::getId, Word::getWordEn));
+        return QuizResponse.of(quiz, wordEnById);
+    }
+
 
 }
@@ -0,0 +1,96 @@
+package com.ssafy.aieng.domain.quiz.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.aieng.domain.quiz.dto.response.QuizResponse;
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 퀴즈 조회 응답 캐시 (quizId 기준 read-through)
+ * - 정답 제출 시 커밋 이후 무효화, 다른 서버에는 Redis Pub/Sub으로 전파
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizViewCache implements MessageListener {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final long MAX_SIZE = 10_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<Integer, QuizResponse> views = Caffeine.newBuilder()
+            .expireAfterWrite(TTL)
+            .maximumSize(MAX_SIZE)
+            .recordStats()
+            .build();
+
+    @PostConstruct
+    public void init() {
+        CaffeineCacheMetrics.monitor(meterRegistry, views, "quizView");
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.QUIZ_VIEW_EVICT_CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        redisMessageListenerContainer.removeMessageListener(this);
+    }
+
+    public QuizResponse get(Integer quizId, Function<Integer, QuizResponse> loader) {
+        return views.get(quizId, loader);
+    }
+
+    // 트랜잭션 커밋 이후 무효화 (커밋 전 재적재로 이전 상태가 남지 않도록)
+    public void evictAfterCommit(Integer quizId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(quizId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(quizId);
+            }
+        });
+    }
+
+    private void evict(Integer quizId) {
+        views.invalidate(quizId);
+        try {
+            stringRedisTemplate.convertAndSend(RedisKeyUtil.QUIZ_VIEW_EVICT_CHANNEL, String.valueOf(quizId));
+        } catch (Exception e) {
+            // 다른 서버는 TTL 만료로 갱신됨
+            log.warn("⚠️ 퀴즈 캐시 무효화 알림 실패: quizId={}", quizId, e);
+        }
+    }
+
+    // 다른 서버의 무효화 알림 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            views.invalidate(Integer.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ 잘못된 퀴즈 캐시 무효화 메시지: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -17,14 +17,17 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "session")
+@Table(name = "session", indexes = {
+        // 자녀-테마별 최신 세션 조회용 인덱스
+        @Index(name = "idx_session_child_theme_started", columnList = "child_id, theme_id, started_at")
+})
 public class Session extends BaseEntity {
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "child_id", nullable = false)
     private Child child;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "theme_id", nullable = false)
     private Theme theme;
 
@@ -75,6 +78,12 @@ public class Session extends BaseEntity {
         updateProgressRate();
     }
 
+    // 여러 단어를 한 번에 학습 완료한 경우 (일괄 생성)
+    public void incrementLearnedCount(int count) {
+        this.learnedWordCount += count;
+        updateProgressRate();
+    }
+
     // 진행률 계산
     public void updateProgressRate() {
         if (totalWordCount != null && totalWordCount > 0) {
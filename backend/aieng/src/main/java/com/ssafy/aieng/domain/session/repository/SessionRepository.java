@@ -1,9 +1,14 @@
 package com.ssafy.aieng.domain.session.repository;
 
+import com.ssafy.aieng.domain.session.dto.response.ChildThemeProgressResponse;
 import com.ssafy.aieng.domain.session.entity.Session;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import jakarta.persistence.LockModeType;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,9 +17,15 @@ import java.util.Optional;
 @Repository
 public interface SessionRepository extends JpaRepository<Session, Integer> {
 
-    // id로 삭제되지 않은 Session 조회
+    // id로 삭제되지 않은 Session 조회 (테마 함께 조회)
+    @EntityGraph(attributePaths = "theme")
     Optional<Session> findByIdAndDeletedFalse(Integer id);
 
+    // id로 Session 조회 + 행 잠금 (같은 세션 동요 저장 요청 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Session s WHERE s.id = :id")
+    Optional<Session> findByIdForUpdate(@Param("id") Integer id);
+
     // childId로 삭제되지 않은 모든 Session 조회
     List<Session> findAllByChildIdAndDeletedFalse(Integer childId);
 
@@ -28,4 +39,32 @@ public interface SessionRepository extends JpaRepository<Session, Integer> {
     List<Session> findSessionsByChildAndThemeOrdered(@Param("childId") Integer childId,
                                                      @Param("themeId") Integer themeId);
 
+    // 자녀의 테마별 최신 세션 진행률 (테마당 1건, 시작 시각이 같은 세션이 있으면 여러 건)
+    @Query("""
+        SELECT new com.ssafy.aieng.domain.session.dto.response.ChildThemeProgressResponse(
+            t.id, t.themeKo, t.themeEn, t.imageUrl,
+            s.id, s.startedAt, s.finishedAt, s.totalWordCount, s.learnedWordCount, s.progressRate,
+            CASE WHEN s.finishedAt IS NOT NULL THEN true ELSE false END)
+        FROM Session s JOIN s.theme t
+        WHERE s.child.id = :childId AND s.deleted = false
+          AND s.startedAt = (
+            SELECT MAX(s2.startedAt) FROM Session s2
+            WHERE s2.child.id = :childId AND s2.theme.id = s.theme.id AND s2.deleted = false)
+        """)
+    List<ChildThemeProgressResponse> findLatestProgressByChild(@Param("childId") Integer childId);
+
+    // 자녀의 특정 테마 최신 세션 진행률
+    @Query("""
+        SELECT new com.ssafy.aieng.domain.session.dto.response.ChildThemeProgressResponse(
+            t.id, t.themeKo, t.themeEn, t.imageUrl,
+            s.id, s.startedAt, s.finishedAt, s.totalWordCount, s.learnedWordCount, s.progressRate,
+            CASE WHEN s.finishedAt IS NOT NULL THEN true ELSE false END)
+        FROM Session s JOIN s.theme t
+        WHERE s.child.id = :childId AND s.theme.id = :themeId AND s.deleted = false
+        ORDER BY s.startedAt DESC, s.id DESC
+        """)
+    List<ChildThemeProgressResponse> findLatestProgressByChildAndTheme(@Param("childId") Integer childId,
+                                                                       @Param("themeId") Integer themeId,
+                                                                       Pageable pageable);
+
 }
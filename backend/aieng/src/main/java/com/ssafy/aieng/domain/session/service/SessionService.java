@@ -3,6 +3,7 @@ package com.ssafy.aieng.domain.session.service;
 
 import com.ssafy.aieng.domain.child.entity.Child;
 import com.ssafy.aieng.domain.child.repository.ChildRepository;
+import com.ssafy.aieng.domain.dictionary.service.DictionaryProgressCounter;
 import com.ssafy.aieng.domain.learning.entity.Learning;
 import com.ssafy.aieng.domain.session.dto.response.ChildThemeProgressResponse;
 import com.ssafy.aieng.domain.session.dto.response.CreateSessionResponse;
@@ -10,17 +11,18 @@ import com.ssafy.aieng.domain.session.entity.Session;
 import com.ssafy.aieng.domain.learning.repository.LearningRepository;
 import com.ssafy.aieng.domain.session.repository.SessionRepository;
 import com.ssafy.aieng.domain.theme.entity.Theme;
-import com.ssafy.aieng.domain.theme.repository.ThemeRepository;
 import com.ssafy.aieng.domain.word.dto.response.WordResponse;
 import com.ssafy.aieng.domain.word.entity.Word;
-import com.ssafy.aieng.domain.word.repository.WordRepository;
+import com.ssafy.aieng.global.common.CustomAuthentication;
+import com.ssafy.aieng.global.common.cache.ReferenceDataCache;
+import com.ssafy.aieng.global.common.redis.service.RedisBatchWriter;
 import com.ssafy.aieng.global.common.util.RedisKeyUtil;
 import com.ssafy.aieng.global.error.ErrorCode;
 import com.ssafy.aieng.global.error.exception.CustomException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -32,21 +34,34 @@ import java.util.stream.Collectors;
 @Slf4j
 public class SessionService {
 
+    private static final Duration WORD_INFO_TTL = Duration.ofDays(1);
+
     private final LearningRepository learningRepository;
     private final SessionRepository sessionRepository;
-    private final ThemeRepository themeRepository;
-    private final WordRepository wordRepository;
     private final ChildRepository childRepository;
-    private final StringRedisTemplate stringRedisTemplate;
+    private final CustomAuthentication customAuthentication;
+    private final ReferenceDataCache referenceDataCache;
+    private final RedisBatchWriter redisBatchWriter;
+    private final DictionaryProgressCounter dictionaryProgressCounter;
 
-    // 사용자와 아이 인증
+    // 사용자와 아이 인증 (세션 연관관계용 프록시 반환, 자녀 조회 쿼리 없음)
     private Child getVerifiedChild(Integer userId, Integer childId) {
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+        customAuthentication.validateChildOwnership(userId, childId);
+        return childRepository.getReferenceById(childId);
+    }
+
+    // 세션 단어별 Redis 해시 (FastAPI가 생성 시 참고하는 단어 정보)
+    private Map<String, Map<String, String>> toWordInfos(Integer userId, Integer sessionId, List<Learning> learnings) {
+        Map<String, Map<String, String>> wordInfos = new LinkedHashMap<>();
+        for (Learning learning : learnings) {
+            Word word = learning.getWord();
+            Map<String, String> wordInfo = new HashMap<>();
+            if (word.getWordEn() != null) wordInfo.put("wordEn", word.getWordEn());
+            if (word.getWordKo() != null) wordInfo.put("wordKo", word.getWordKo());
+            if (word.getImgUrl() != null) wordInfo.put("imgUrl", word.getImgUrl());
+            wordInfos.put(RedisKeyUtil.getGeneratedContentKey(userId, sessionId, word.getWordEn()), wordInfo);
         }
-        return child;
+        return wordInfos;
     }
 
 
@@ -57,7 +72,7 @@ public class SessionService {
         Child child = getVerifiedChild(userId, childId);
 
         // 2. 테마 확인
-        Theme theme = themeRepository.findById(themeId)
+        Theme theme = referenceDataCache.findTheme(themeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.THEME_NOT_FOUND));
 
         // 3. 기존 진행 중인 세션들 조회 (내림차순 정렬됨)
@@ -77,7 +92,7 @@ public class SessionService {
         sessionRepository.save(session);
 
         // 5. 랜덤 단어 6개 선택
-        List<Word> wordList = wordRepository.findAllByThemeId(themeId);
+        List<Word> wordList = referenceDataCache.getWordsByTheme(themeId);
         if (wordList.size() < 6) {
             throw new CustomException(ErrorCode.NOT_ENOUGH_WORDS);
         }
@@ -99,19 +114,9 @@ public class SessionService {
         learningRepository.saveAll(learningBatch);
         session.setTotalWordCount(learningBatch.size());
 
-        // 7. Redis 저장 (단어별 정보만)
-        for (Learning learning : learningBatch) {
-            Word word = learning.getWord();
-            String infoKey = RedisKeyUtil.getGeneratedContentKey(userId, session.getId(), word.getWordEn());
-
-            Map<String, String> wordInfo = new HashMap<>();
-            if (word.getWordEn() != null) wordInfo.put("wordEn", word.getWordEn());
-            if (word.getWordKo() != null) wordInfo.put("wordKo", word.getWordKo());
-            if (word.getImgUrl() != null) wordInfo.put("imgUrl", word.getImgUrl());
-
-            stringRedisTemplate.opsForHash().putAll(infoKey, wordInfo);
-            stringRedisTemplate.expire(infoKey, Duration.ofDays(1));
-        }
+        // 7. Redis 저장 (단어별 정보만, 한 번에 전송)
+        redisBatchWriter.putIndexedHashes(RedisKeyUtil.getSessionWordIndexKey(session.getId()),
+                toWordInfos(userId, session.getId(), learningBatch), WORD_INFO_TTL);
 
         // 8. 응답용 변환
         List<WordResponse> wordResponses = learningBatch.stream()
@@ -133,16 +138,18 @@ public class SessionService {
             throw new CustomException(ErrorCode.INVALID_SESSION_ACCESS);
         }
 
-        // 2. 기존 Learning 하드 delete + Redis 삭제
+        // 2. 기존 Learning 하드 delete (Redis 키는 5번에서 함께 교체)
         List<Learning> oldLearnings = learningRepository.findAllBySessionIdAndDeletedFalse(sessionId);
-        for (Learning learning : oldLearnings) {
-            String infoKey = RedisKeyUtil.getGeneratedContentKey(userId, sessionId, learning.getWord().getWordEn());
-            stringRedisTemplate.delete(infoKey);
-        }
+        List<String> oldInfoKeys = oldLearnings.stream()
+                .map(learning -> RedisKeyUtil.getGeneratedContentKey(userId, sessionId, learning.getWord().getWordEn()))
+                .toList();
         learningRepository.deleteAll(oldLearnings); // ← 실제 삭제
+        if (oldLearnings.stream().anyMatch(Learning::isLearned)) {
+            dictionaryProgressCounter.evictAfterCommit(childId);
+        }
 
         // 3. 새 단어 6개 선택
-        List<Word> wordList = wordRepository.findAllByThemeId(themeId);
+        List<Word> wordList = referenceDataCache.getWordsByTheme(themeId);
         if (wordList.size() < 6) {
             throw new CustomException(ErrorCode.NOT_ENOUGH_WORDS);
         }
@@ -163,30 +170,22 @@ public class SessionService {
         }
         learningRepository.saveAll(newLearnings);
 
-        // 5. Redis 재등록
-        for (Learning learning : newLearnings) {
-            Word word = learning.getWord();
-            String infoKey = RedisKeyUtil.getGeneratedContentKey(userId, sessionId, word.getWordEn());
-
-            Map<String, String> wordInfo = new HashMap<>();
-            if (word.getWordEn() != null) wordInfo.put("wordEn", word.getWordEn());
-            if (word.getWordKo() != null) wordInfo.put("wordKo", word.getWordKo());
-            if (word.getImgUrl() != null) wordInfo.put("imgUrl", word.getImgUrl());
-
-            stringRedisTemplate.opsForHash().putAll(infoKey, wordInfo);
-            stringRedisTemplate.expire(infoKey, Duration.ofDays(1));
-        }
+        // 5. Redis 기존 키 삭제 + 재등록 (한 번에 전송)
+        redisBatchWriter.replaceIndexedHashes(RedisKeyUtil.getSessionWordIndexKey(sessionId), oldInfoKeys,
+                toWordInfos(userId, sessionId, newLearnings), WORD_INFO_TTL);
 
         // 6. 응답 반환
         List<WordResponse> wordResponses = newLearnings.stream()
                 .map(l -> WordResponse.of(l.getWord(), l))
                 .toList();
 
+        Theme theme = referenceDataCache.findTheme(themeId)
+                .orElseThrow(() -> new CustomException(ErrorCode.THEME_NOT_FOUND));
         return new CreateSessionResponse(
                 sessionId,
                 false,
-                session.getTheme().getThemeEn(),
-                session.getTheme().getThemeKo(),
+                theme.getThemeEn(),
+                theme.getThemeKo(),
                 wordResponses
         );
     }
@@ -195,27 +194,21 @@ public class SessionService {
 
     // 자녀의 세션 목록 조회 (정렬 필드도 유연하게 처리 가능)
     public List<ChildThemeProgressResponse> getAllThemesWithProgress(Integer userId, Integer childId) {
-        getVerifiedChild(userId, childId);
+        customAuthentication.validateChildOwnership(userId, childId);
 
-        List<Theme> allThemes = themeRepository.findAll();
-        List<Session> sessions = sessionRepository.findAllByChildIdAndDeletedFalse(childId);
+        List<Theme> allThemes = referenceDataCache.getAllThemes();
 
-        // 테마별 최신 세션만 남기기
-        Map<Integer, Session> themeSessionMap = sessions.stream()
+        // 테마별 최신 세션 (DB에서 테마당 1건으로 조회, 시작 시각이 같으면 나중 세션)
+        Map<Integer, ChildThemeProgressResponse> latestByTheme = sessionRepository.findLatestProgressByChild(childId).stream()
                 .collect(Collectors.toMap(
-                        s -> s.getTheme().getId(),
-                        s -> s,
-                        (s1, s2) -> s1.getStartedAt().isAfter(s2.getStartedAt()) ? s1 : s2
+                        ChildThemeProgressResponse::getThemeId,
+                        p -> p,
+                        (p1, p2) -> p1.getSessionId() > p2.getSessionId() ? p1 : p2
                 ));
 
         // 각 테마에 대해 DTO 생성
         return allThemes.stream()
-                .map(theme -> {
-                    Session session = themeSessionMap.get(theme.getId());
-                    return (session != null)
-                            ? ChildThemeProgressResponse.fromSession(session)
-                            : ChildThemeProgressResponse.fromThemeOnly(theme);
-                })
+                .map(theme -> latestByTheme.getOrDefault(theme.getId(), ChildThemeProgressResponse.fromThemeOnly(theme)))
                 .toList();
     }
 
@@ -227,7 +220,7 @@ public class SessionService {
                 .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
 
         // 유저가 이 세션의 아이 부모인지 확인
-        getVerifiedChild(userId, session.getChild().getId());
+        customAuthentication.validateChildOwnership(userId, session.getChild().getId());
 
         // Learning soft delete
         if (session.getLearnings() != null) {
@@ -245,14 +238,15 @@ public class SessionService {
     }
 
     public ChildThemeProgressResponse getThemeProgress(Integer userId, Integer childId, Integer themeId) {
-        getVerifiedChild(userId, childId);
+        customAuthentication.validateChildOwnership(userId, childId);
 
-        Theme theme = themeRepository.findById(themeId)
+        Theme theme = referenceDataCache.findTheme(themeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.THEME_NOT_FOUND));
 
         return sessionRepository
-                .findTopByChildIdAndThemeIdAndDeletedFalseOrderByStartedAtDesc(childId, themeId)
-                .map(ChildThemeProgressResponse::fromSession)
+                .findLatestProgressByChildAndTheme(childId, themeId, PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
                 .orElseGet(() -> ChildThemeProgressResponse.fromThemeOnly(theme));
     }
 
@@ -264,11 +258,11 @@ public class SessionService {
         Child child = getVerifiedChild(userId, childId);
 
         // 테마 확인
-        Theme theme = themeRepository.findById(themeId)
+        Theme theme = referenceDataCache.findTheme(themeId)
                 .orElseThrow(() -> new CustomException(ErrorCode.THEME_NOT_FOUND));
 
         // 랜덤 단어 6개 선택
-        List<Word> wordList = wordRepository.findAllByThemeId(themeId);
+        List<Word> wordList = referenceDataCache.getWordsByTheme(themeId);
         if (wordList.size() < 6) throw new CustomException(ErrorCode.NOT_ENOUGH_WORDS);
 
         Collections.shuffle(wordList);
@@ -291,17 +285,9 @@ public class SessionService {
         learningRepository.saveAll(learnings);
         session.setTotalWordCount(learnings.size());
 
-        // Redis 저장
-        for (Learning learning : learnings) {
-            String key = RedisKeyUtil.getGeneratedContentKey(userId, session.getId(), learning.getWord().getWordEn());
-            Map<String, String> info = Map.of(
-                    "wordEn", learning.getWord().getWordEn(),
-                    "wordKo", learning.getWord().getWordKo(),
-                    "imgUrl", learning.getWord().getImgUrl()
-            );
-            stringRedisTemplate.opsForHash().putAll(key, info);
-            stringRedisTemplate.expire(key, Duration.ofDays(1));
-        }
+        // Redis 저장 (한 번에 전송)
+        redisBatchWriter.putIndexedHashes(RedisKeyUtil.getSessionWordIndexKey(session.getId()),
+                toWordInfos(userId, session.getId(), learnings), WORD_INFO_TTL);
 
         // 응답 생성
         List<WordResponse> responses = learnings.stream()
@@ -6,14 +6,17 @@ import com.ssafy.aieng.domain.song.dto.response.SongGenerateResponseDto;
 import com.ssafy.aieng.domain.song.dto.response.SongResponseList;
 import com.ssafy.aieng.domain.song.dto.response.SongStatusResponse;
 import com.ssafy.aieng.domain.song.service.SongService;
+import com.ssafy.aieng.domain.song.service.SongStatusStreamService;
 import com.ssafy.aieng.domain.voice.service.VoiceService;
 import com.ssafy.aieng.global.common.response.ApiResponse;
 import com.ssafy.aieng.global.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 
 @RestController
@@ -22,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class SongController {
 
     private final SongService songService;
+    private final SongStatusStreamService songStatusStreamService;
 
     // 동요 생성 요청(FastAPI로 요청만)
     @PostMapping("/sessions/{sessionId}/generate-song")
@@ -40,10 +44,10 @@ public class SongController {
     public ResponseEntity<ApiResponse<SongGenerateResponseDto>> getGeneratedSongFromRedis(
             @AuthenticationPrincipal UserPrincipal user,
             @RequestHeader("X-Child-Id") Integer childId,
-            @PathVariable Integer sessionId
-
+            @PathVariable Integer sessionId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ) {
-        SongGenerateResponseDto response = songService.getGeneratedSong(user.getId(), childId, sessionId);
+        SongGenerateResponseDto response = songService.getGeneratedSong(user.getId(), childId, sessionId, idempotencyKey);
         return ApiResponse.success(response);
     }
 
@@ -90,6 +94,16 @@ public class SongController {
         return ApiResponse.success(status);
     }
 
+    // 동요 생성 상태 스트림 (SSE: REQUESTED → IN_PROGRESS → READY → SAVED)
+    @GetMapping(value = "/sessions/{sessionId}/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSongStatus(
+            @PathVariable Integer sessionId,
+            @AuthenticationPrincipal UserPrincipal user,
+            @RequestHeader("X-Child-Id") Integer childId
+    ) {
+        return songStatusStreamService.subscribe(user.getId(), childId, sessionId);
+    }
+
     // 좋아요 등록, 취소
     @PostMapping("/{songId}/like-toggle")
     public ResponseEntity<ApiResponse<Boolean>> toggleLikeSong(
@@ -0,0 +1,24 @@
+package com.ssafy.aieng.domain.song.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 동요 생성 상태 변경 알림 (Redis Pub/Sub 메시지 본문)
+ * - FastAPI도 같은 형식으로 발행함 (READY)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SongStatusEvent {
+
+    private Integer userId;
+    private Integer sessionId;
+    private String status;
+    private Integer songId;     // SAVED 상태에서만 존재
+
+    public static SongStatusEvent of(Integer userId, Integer sessionId, String status, Integer songId) {
+        return new SongStatusEvent(userId, sessionId, status, songId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.ssafy.aieng.domain.song.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+// FastAPI가 Redis에 저장한 동요 생성 결과
+@Getter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GeneratedSongResult {
+
+    @JsonProperty("title")
+    private String title;
+
+    @JsonProperty("lyrics_en")
+    private String lyricsEn;
+
+    @JsonProperty("lyrics_ko")
+    private String lyricsKo;
+
+    @JsonProperty("song_url")
+    private String songUrl;
+
+    @JsonProperty("mood")
+    private String mood;
+
+    @JsonProperty("voice")
+    private String voice;
+}
@@ -11,7 +11,10 @@ import lombok.NoArgsConstructor;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "custom_song")
+@Table(name = "custom_song", uniqueConstraints = {
+        // 세션당 동요 1개 (동시 저장 요청 방지)
+        @UniqueConstraint(name = "uk_custom_song_session", columnNames = "session_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Song extends BaseEntity {
@@ -43,6 +46,10 @@ public class Song extends BaseEntity {
     @Column(name = "duration")
     private Integer duration;
 
+    // 동요 저장 후 이어서 생성된 세션 (재요청 시 같은 세션 반환)
+    @Column(name = "next_session_id")
+    private Integer nextSessionId;
+
     @Builder
     public Song(Session session, Mood mood, String title, String lyric, String description, String songUrl, Integer duration) {
         this.session = session;
@@ -54,4 +61,8 @@ public class Song extends BaseEntity {
         this.status = SongStatus.SAVED;
         this.duration = duration;
     }
+
+    public void assignNextSession(Integer nextSessionId) {
+        this.nextSessionId = nextSessionId;
+    }
 } 
\ No newline at end of file
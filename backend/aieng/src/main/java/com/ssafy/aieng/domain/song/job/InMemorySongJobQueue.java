@@ -0,0 +1,98 @@
+package com.ssafy.aieng.domain.song.job;
+
+import com.ssafy.aieng.global.config.SongQueueProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬(테스트)용 동요 생성 작업 큐
+ * - 프로세스가 종료되면 작업이 사라지므로 운영 환경에서는 사용하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "song.queue.type", havingValue = "memory")
+public class InMemorySongJobQueue implements SongJobQueue {
+
+    private static final int DEAD_LETTER_MAX_SIZE = 1_000;
+
+    private final SongQueueProperties properties;
+
+    private final BlockingQueue<QueuedSongJob> queue = new LinkedBlockingQueue<>();
+    private final Deque<QueuedSongJob> deadLetters = new ConcurrentLinkedDeque<>();
+    private final Map<Integer, Long> claims = new ConcurrentHashMap<>();   // sessionId -> 만료 시각
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public boolean tryClaim(Integer sessionId) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + properties.getClaimTtl().toMillis();
+        // 같은 밀리초에 들어온 요청끼리도 구분되도록 값 비교 대신 선점 여부를 직접 기록
+        boolean[] won = new boolean[1];
+        claims.compute(sessionId, (id, current) -> {
+            if (current == null || current <= now) {
+                won[0] = true;
+                return expiresAt;
+            }
+            return current;
+        });
+        return won[0];
+    }
+
+    @Override
+    public void releaseClaim(Integer sessionId) {
+        claims.remove(sessionId);
+    }
+
+    @Override
+    public void enqueue(SongGenerationJob job) {
+        queue.add(new QueuedSongJob(String.valueOf(sequence.incrementAndGet()), job));
+    }
+
+    @Override
+    public List<QueuedSongJob> poll(int max, Duration block) {
+        List<QueuedSongJob> jobs = new ArrayList<>();
+        try {
+            QueuedSongJob first = queue.poll(block.toMillis(), TimeUnit.MILLISECONDS);
+            if (first != null) {
+                jobs.add(first);
+                queue.drainTo(jobs, max - 1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return jobs;
+    }
+
+    @Override
+    public void ack(QueuedSongJob job) {
+        // 꺼낸 시점에 이미 큐에서 제거됨
+    }
+
+    @Override
+    public void deadLetter(QueuedSongJob job, String reason) {
+        log.warn("☠️ 동요 작업 보관: sessionId={}, reason={}", job.getJob().getSessionId(), reason);
+        deadLetters.addLast(job);
+        while (deadLetters.size() > DEAD_LETTER_MAX_SIZE) {
+            deadLetters.pollFirst();
+        }
+    }
+
+    public List<QueuedSongJob> getDeadLetters() {
+        return List.copyOf(deadLetters);
+    }
+}
@@ -0,0 +1,15 @@
+package com.ssafy.aieng.domain.song.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 큐에서 꺼낸 작업 (ACK에 사용할 메시지 ID 포함)
+ */
+@Getter
+@AllArgsConstructor
+public class QueuedSongJob {
+
+    private final String id;
+    private final SongGenerationJob job;
+}
@@ -0,0 +1,183 @@
+package com.ssafy.aieng.domain.song.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import com.ssafy.aieng.global.config.SongQueueProperties;
+import com.ssafy.aieng.global.error.ErrorCode;
+import com.ssafy.aieng.global.error.exception.CustomException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis Streams 기반 동요 생성 작업 큐
+ * - 컨슈머 그룹으로 여러 서버가 작업을 나눠 처리
+ * - ACK 전까지 PEL에 남아 있어 서버가 죽어도 작업이 유실되지 않음
+ * - visibility timeout이 지난 미처리 작업은 다른 컨슈머가 회수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "song.queue.type", havingValue = "redis", matchIfMissing = true)
+public class RedisStreamSongJobQueue implements SongJobQueue {
+
+    private static final String GROUP = "song-workers";
+    private static final String PAYLOAD = "payload";
+    private static final String REASON = "reason";
+    private static final long DEAD_LETTER_MAX_LENGTH = 10_000;
+    private static final int RECLAIM_BATCH = 10;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SongQueueProperties properties;
+
+    private final String consumer = "worker-" + ManagementFactory.getRuntimeMXBean().getName();
+
+    private volatile long lastReclaimAt = 0L;
+
+    @PostConstruct
+    public void init() {
+        createGroup();
+    }
+
+    @Override
+    public boolean tryClaim(Integer sessionId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(RedisKeyUtil.getSongJobClaimKey(sessionId), consumer, properties.getClaimTtl()));
+    }
+
+    @Override
+    public void releaseClaim(Integer sessionId) {
+        stringRedisTemplate.delete(RedisKeyUtil.getSongJobClaimKey(sessionId));
+    }
+
+    @Override
+    public void enqueue(SongGenerationJob job) {
+        stream().add(MapRecord.create(RedisKeyUtil.SONG_JOB_STREAM, Map.of(PAYLOAD, serialize(job))));
+    }
+
+    @Override
+    public List<QueuedSongJob> poll(int max, Duration block) {
+        List<QueuedSongJob> jobs = new ArrayList<>(reclaimStale(max));
+        if (!jobs.isEmpty()) {
+            return jobs;
+        }
+
+        try {
+            List<MapRecord<String, String, String>> records = stream().read(
+                    Consumer.from(GROUP, consumer),
+                    StreamReadOptions.empty().count(max).block(block),
+                    StreamOffset.create(RedisKeyUtil.SONG_JOB_STREAM, ReadOffset.lastConsumed())
+            );
+            if (records != null) {
+                records.forEach(record -> toJob(record, jobs));
+            }
+        } catch (Exception e) {
+            // 스트림/그룹이 삭제된 경우 다시 생성
+            log.warn("⚠️ 동요 작업 큐 조회 실패, 컨슈머 그룹 재생성 시도", e);
+            createGroup();
+        }
+        return jobs;
+    }
+
+    @Override
+    public void ack(QueuedSongJob job) {
+        RecordId id = RecordId.of(job.getId());
+        stream().acknowledge(RedisKeyUtil.SONG_JOB_STREAM, GROUP, id);
+        stream().delete(RedisKeyUtil.SONG_JOB_STREAM, id);
+    }
+
+    @Override
+    public void deadLetter(QueuedSongJob job, String reason) {
+        stream().add(MapRecord.create(RedisKeyUtil.SONG_JOB_DEAD_LETTER_STREAM, Map.of(
+                PAYLOAD, serialize(job.getJob()),
+                REASON, reason != null ? reason : "unknown"
+        )));
+        stream().trim(RedisKeyUtil.SONG_JOB_DEAD_LETTER_STREAM, DEAD_LETTER_MAX_LENGTH, true);
+        ack(job);
+    }
+
+    // 다른 컨슈머가 ACK 없이 오래 들고 있는 작업 회수 (visibility timeout 주기로만 확인)
+    private List<QueuedSongJob> reclaimStale(int max) {
+        long now = System.currentTimeMillis();
+        Duration timeout = properties.getVisibilityTimeout();
+        if (now - lastReclaimAt < timeout.toMillis() / 2) {
+            return List.of();
+        }
+        lastReclaimAt = now;
+
+        List<QueuedSongJob> jobs = new ArrayList<>();
+        try {
+            PendingMessages pending = stream().pending(
+                    RedisKeyUtil.SONG_JOB_STREAM, GROUP, Range.unbounded(), Math.max(max, RECLAIM_BATCH));
+            RecordId[] staleIds = pending.stream()
+                    .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(timeout) >= 0)
+                    .map(PendingMessage::getId)
+                    .limit(max)
+                    .toArray(RecordId[]::new);
+            if (staleIds.length == 0) {
+                return jobs;
+            }
+
+            stream().claim(RedisKeyUtil.SONG_JOB_STREAM, GROUP, consumer, timeout, staleIds)
+                    .forEach(record -> toJob(record, jobs));
+            log.info("♻️ 미처리 동요 작업 회수: {}건", jobs.size());
+        } catch (Exception e) {
+            log.warn("⚠️ 미처리 동요 작업 회수 실패", e);
+        }
+        return jobs;
+    }
+
+    private void toJob(MapRecord<String, String, String> record, List<QueuedSongJob> jobs) {
+        String payload = record.getValue().get(PAYLOAD);
+        try {
+            jobs.add(new QueuedSongJob(record.getId().getValue(), objectMapper.readValue(payload, SongGenerationJob.class)));
+        } catch (Exception e) {
+            // 읽을 수 없는 메시지는 재시도해도 의미 없으므로 바로 제거
+            log.error("❌ 동요 작업 역직렬화 실패: id={}, payload={}", record.getId(), payload, e);
+            stream().acknowledge(RedisKeyUtil.SONG_JOB_STREAM, GROUP, record.getId());
+        }
+    }
+
+    private String serialize(SongGenerationJob job) {
+        try {
+            return objectMapper.writeValueAsString(job);
+        } catch (JsonProcessingException e) {
+            log.error("❌ 동요 작업 직렬화 실패: sessionId={}", job.getSessionId(), e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void createGroup() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                    RedisKeyUtil.SONG_JOB_STREAM.getBytes(StandardCharsets.UTF_8),
+                    GROUP,
+                    ReadOffset.from("0"),
+                    true
+            ));
+        } catch (Exception e) {
+            // 이미 그룹이 있는 경우 (BUSYGROUP)
+            log.debug("동요 작업 컨슈머 그룹 이미 존재: {}", e.getMessage());
+        }
+    }
+
+    private StreamOperations<String, String, String> stream() {
+        return stringRedisTemplate.opsForStream();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ssafy.aieng.domain.song.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 동요 생성 작업 (큐 메시지 본문)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SongGenerationJob {
+
+    private Integer userId;
+    private Integer childId;
+    private Integer sessionId;
+    private String moodName;
+    private String voiceName;
+    private int attempt;        // 0부터 시작
+    private long notBefore;     // 재시도 시 이 시각(epoch millis) 이후에 처리
+
+    public static SongGenerationJob of(Integer userId, Integer childId, Integer sessionId, String moodName, String voiceName) {
+        return new SongGenerationJob(userId, childId, sessionId, moodName, voiceName, 0, 0L);
+    }
+
+    // 다음 재시도 작업
+    public SongGenerationJob retryAfter(long delayMillis) {
+        return new SongGenerationJob(userId, childId, sessionId, moodName, voiceName,
+                attempt + 1, System.currentTimeMillis() + delayMillis);
+    }
+
+    // FastAPI 요청 본문
+    public Map<String, Object> toFastApiRequest() {
+        return Map.of(
+                "userId", userId,
+                "sessionId", sessionId,
+                "moodName", moodName,
+                "voiceName", voiceName
+        );
+    }
+}
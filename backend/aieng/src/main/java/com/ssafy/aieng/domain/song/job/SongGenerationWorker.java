@@ -0,0 +1,200 @@
+package com.ssafy.aieng.domain.song.job;
+
+import com.ssafy.aieng.domain.song.entity.SongStatus;
+import com.ssafy.aieng.domain.song.service.SongStatusPublisher;
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import com.ssafy.aieng.global.config.SongQueueProperties;
+import com.ssafy.aieng.global.infra.fastapi.client.FastApiClient;
+import com.ssafy.aieng.global.infra.fastapi.codec.GeneratedResultCodec;
+import com.ssafy.aieng.global.infra.fastapi.constants.FastApiEndpoint;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동요 생성 작업 소비자
+ * - GPU 서버로 보내는 동시 요청 수를 concurrency로 제한 (나머지는 큐에서 대기)
+ * - 실패 시 지수 백오프로 재시도, 한도 초과 시 dead-letter 보관 후 FAILED
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SongGenerationWorker {
+
+    private static final Duration POLL_BLOCK = Duration.ofSeconds(2);
+
+    private final SongJobQueue songJobQueue;
+    private final FastApiClient fastApiClient;
+    private final SongStatusPublisher songStatusPublisher;
+    private final SongQueueProperties properties;
+    private final GeneratedResultCodec generatedResultCodec;
+
+    private Semaphore permits;
+    private ExecutorService workers;
+    private ScheduledExecutorService scheduler;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        int concurrency = properties.getConcurrency();
+        permits = new Semaphore(concurrency);
+        workers = Executors.newFixedThreadPool(concurrency, daemonFactory("song-worker-"));
+        scheduler = Executors.newSingleThreadScheduledExecutor(daemonFactory("song-retry-"));
+
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "song-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        dispatcher.interrupt();
+        scheduler.shutdownNow();
+        workers.shutdown();
+    }
+
+    // 빈 슬롯이 있을 때만 큐에서 꺼냄 (backpressure)
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                List<QueuedSongJob> jobs = songJobQueue.poll(1, POLL_BLOCK);
+                if (jobs.isEmpty()) {
+                    permits.release();
+                    continue;
+                }
+                dispatch(jobs.get(0));
+            } catch (Exception e) {
+                permits.release();
+                log.error("❌ 동요 작업 디스패치 실패", e);
+            }
+        }
+    }
+
+    private void dispatch(QueuedSongJob queued) {
+        long delay = queued.getJob().getNotBefore() - System.currentTimeMillis();
+        if (delay > 0) {
+            // 백오프 대기 중에도 슬롯을 점유 → 장애 시 GPU 서버로 가는 요청이 자연스럽게 줄어듦
+            scheduler.schedule(() -> workers.execute(() -> process(queued)), delay, TimeUnit.MILLISECONDS);
+        } else {
+            workers.execute(() -> process(queued));
+        }
+    }
+
+    private void process(QueuedSongJob queued) {
+        SongGenerationJob job = queued.getJob();
+        try {
+            // 0. 이미 생성/저장된 세션이면 GPU 요청 없이 종료 (응답 타임아웃 후 재시도 등)
+            if (alreadyGenerated(job)) {
+                songJobQueue.ack(queued);
+                return;
+            }
+
+            // 1. 상태: REQUESTED → IN_PROGRESS (재시도는 이미 IN_PROGRESS, 그 외 상태면 다른 요청이 처리한 것)
+            SongStatus current = songStatusPublisher.currentStatus(job.getSessionId());
+            if (current != SongStatus.IN_PROGRESS && !songStatusPublisher.publishIfCurrent(
+                    job.getUserId(), job.getSessionId(), SongStatus.REQUESTED, SongStatus.IN_PROGRESS)) {
+                log.info("⏭️ 동요 작업 건너뜀: sessionId={}, status={}", job.getSessionId(), current);
+                songJobQueue.ack(queued);
+                return;
+            }
+
+            // 2. FastAPI 요청 (FastAPI는 생성이 끝난 뒤 응답함)
+            log.info("📤 FastAPI 전송 데이터: {} (attempt={})", job.toFastApiRequest(), job.getAttempt() + 1);
+            fastApiClient.postJson(FastApiEndpoint.SONGS, job.toFastApiRequest());
+
+            // 3. 상태: READY (FastAPI가 먼저 READY로 바꿨어도 알림은 발행, SAVED 등 이후 상태는 유지)
+            markReady(job);
+            songJobQueue.ack(queued);
+
+            // 세션 선점은 해제하지 않음 (저장 전 재요청으로 다시 생성하지 않도록, SAVED 이후에는 DB로 막힘)
+
+        } catch (Exception e) {
+            handleFailure(queued, e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean alreadyGenerated(SongGenerationJob job) {
+        SongStatus current = songStatusPublisher.currentStatus(job.getSessionId());
+        if (current == SongStatus.READY || current == SongStatus.SAVED) {
+            log.info("⏭️ 이미 생성된 동요: sessionId={}, status={}", job.getSessionId(), current);
+            return true;
+        }
+        if (generatedResultCodec.exists(RedisKeyUtil.getGeneratedSongKey(job.getUserId(), job.getSessionId()))) {
+            log.info("⏭️ 이미 생성된 동요 결과 존재: sessionId={}", job.getSessionId());
+            markReady(job);
+            return true;
+        }
+        return false;
+    }
+
+    private void markReady(SongGenerationJob job) {
+        songStatusPublisher.publishIfCurrent(job.getUserId(), job.getSessionId(),
+                List.of(SongStatus.REQUESTED, SongStatus.IN_PROGRESS, SongStatus.READY), SongStatus.READY);
+    }
+
+    private void handleFailure(QueuedSongJob queued, Exception e) {
+        SongGenerationJob job = queued.getJob();
+        int nextAttempt = job.getAttempt() + 1;
+
+        try {
+            if (nextAttempt < properties.getMaxAttempts()) {
+                long backoff = backoffMillis(job.getAttempt());
+                log.warn("🔁 동요 생성 재시도 예약: sessionId={}, attempt={}, backoff={}ms",
+                        job.getSessionId(), nextAttempt + 1, backoff, e);
+                // 새 작업을 먼저 넣고 기존 작업을 ACK (유실 방지)
+                songJobQueue.enqueue(job.retryAfter(backoff));
+                songJobQueue.ack(queued);
+                return;
+            }
+
+            log.error("❌ 동요 생성 최종 실패: sessionId={}, attempts={}", job.getSessionId(), nextAttempt, e);
+            songJobQueue.deadLetter(queued, e.getMessage());
+            songJobQueue.releaseClaim(job.getSessionId());
+            songStatusPublisher.publishIfCurrent(job.getUserId(), job.getSessionId(),
+                    List.of(SongStatus.REQUESTED, SongStatus.IN_PROGRESS), SongStatus.FAILED);
+
+        } catch (Exception queueError) {
+            // ACK되지 않은 작업은 visibility timeout 이후 회수됨
+            log.error("❌ 동요 작업 실패 처리 중 오류: sessionId={}", job.getSessionId(), queueError);
+        }
+    }
+
+    private long backoffMillis(int attempt) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long max = properties.getMaxBackoff().toMillis();
+        return Math.min(max, initial << Math.min(attempt, 20));
+    }
+
+    private static ThreadFactory daemonFactory(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
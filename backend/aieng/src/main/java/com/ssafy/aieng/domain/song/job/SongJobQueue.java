@@ -0,0 +1,27 @@
+package com.ssafy.aieng.domain.song.job;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 동요 생성 작업 큐
+ * - ACK 전까지는 작업이 유실되지 않아야 함
+ * - 세션 단위 선점(claim)으로 같은 세션의 중복 생성을 막음
+ */
+public interface SongJobQueue {
+
+    // 세션 선점 (이미 진행 중이면 false)
+    boolean tryClaim(Integer sessionId);
+
+    void releaseClaim(Integer sessionId);
+
+    void enqueue(SongGenerationJob job);
+
+    // 최대 max개의 작업을 가져옴 (없으면 block 동안 대기)
+    List<QueuedSongJob> poll(int max, Duration block);
+
+    void ack(QueuedSongJob job);
+
+    // 재시도 한도 초과 작업 보관
+    void deadLetter(QueuedSongJob job, String reason);
+}
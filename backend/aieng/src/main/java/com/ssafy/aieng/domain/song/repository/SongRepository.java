@@ -1,6 +1,7 @@
 package com.ssafy.aieng.domain.song.repository;
 
 import com.ssafy.aieng.domain.song.entity.Song;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -18,4 +19,8 @@ public interface SongRepository extends JpaRepository<Song, Integer> {
 
     // 특정 세션에 해당하는 노래 조회
     Optional<Song> findBySessionId(Integer sessionId);
+
+    // 특정 세션에 해당하는 노래 조회 (분위기 함께 조회, 저장 재요청 응답용)
+    @EntityGraph(attributePaths = "mood")
+    Optional<Song> findWithMoodBySessionId(Integer sessionId);
 }
\ No newline at end of file
@@ -1,18 +1,16 @@
 package com.ssafy.aieng.domain.song.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.aieng.domain.book.entity.Storybook;
 import com.ssafy.aieng.domain.book.repository.StorybookRepository;
 import com.ssafy.aieng.domain.mood.entity.Mood;
-import com.ssafy.aieng.domain.mood.repository.MoodRepository;
 import com.ssafy.aieng.domain.session.dto.response.CreateSessionResponse;
 import com.ssafy.aieng.domain.session.service.SessionService;
 import com.ssafy.aieng.domain.song.dto.response.*;
 import com.ssafy.aieng.domain.song.entity.LikedSong;
 import com.ssafy.aieng.domain.song.entity.Song;
 import com.ssafy.aieng.domain.song.entity.SongStatus;
+import com.ssafy.aieng.domain.song.job.SongGenerationJob;
+import com.ssafy.aieng.domain.song.job.SongJobQueue;
 import com.ssafy.aieng.domain.song.repository.LikedSongRepository;
 import com.ssafy.aieng.domain.song.repository.SongRepository;
 import com.ssafy.aieng.domain.child.entity.Child;
@@ -20,56 +18,63 @@ import com.ssafy.aieng.domain.child.repository.ChildRepository;
 import com.ssafy.aieng.domain.session.entity.Session;
 import com.ssafy.aieng.domain.session.repository.SessionRepository;
 import com.ssafy.aieng.domain.voice.entity.Voice;
-import com.ssafy.aieng.domain.voice.repository.VoiceRepository;
 import com.ssafy.aieng.global.common.CustomAuthentication;
+import com.ssafy.aieng.global.common.cache.ReferenceDataCache;
+import com.ssafy.aieng.global.common.redis.codec.RedisValueType;
+import com.ssafy.aieng.global.common.redis.service.RedisReadRouting;
+import com.ssafy.aieng.global.common.redis.service.RedisService;
 import com.ssafy.aieng.global.common.util.RedisKeyUtil;
 import com.ssafy.aieng.global.error.ErrorCode;
 import com.ssafy.aieng.global.error.exception.CustomException;
+import com.ssafy.aieng.global.infra.fastapi.codec.GeneratedResultCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.http.HttpHeaders;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import com.ssafy.aieng.domain.song.dto.response.SongStatusResponse;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 
-import org.springframework.web.client.RestTemplate;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SongService {
 
-    private static final String FASTAPI_URL = "http://175.121.93.70:51528/songs/";
-
     private final SongRepository songRepository;
-    private final MoodRepository moodRepository;
     private final ChildRepository childRepository;
+    private final CustomAuthentication customAuthentication;
     private final SessionRepository sessionRepository;
-    private final VoiceRepository voiceRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final StorybookRepository storybookRepository;
     private final LikedSongRepository likedSongRepository;
-    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisService redisService;
     private final SessionService sessionService;
-
-    // 동요 생성
-    @Transactional
+    private final SongJobQueue songJobQueue;
+    private final SongStatusPublisher songStatusPublisher;
+    private final GeneratedResultCodec generatedResultCodec;
+    private final RedisReadRouting redisReadRouting;
+
+    private static final Duration IDEMPOTENCY_TTL = Duration.ofHours(24);
+    // 멱등 키에 저장하는 동요 저장 응답
+    private static final RedisValueType<SongGenerateResponseDto> SONG_SAVE_RESPONSE =
+            RedisValueType.of("Song:save", SongGenerateResponseDto.class);
+    private static final String DEFAULT_SONG_TITLE = "AI Generated Song";
+
+    // 동요 생성 요청 (작업 큐에 등록 후 즉시 반환, 실제 생성은 SongGenerationWorker)
+    @Transactional(readOnly = true)
     public void generateSong(Integer userId, Integer childId, Integer sessionId) {
 
         // 1. 자녀 검증
+        customAuthentication.validateChildOwnership(userId, childId);
         Child child = childRepository.findById(childId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
 
         // 2. 세션 검증
         Session session = sessionRepository.findById(sessionId)
@@ -78,15 +83,22 @@ public class SongService {
             throw new CustomException(ErrorCode.INVALID_SESSION_ACCESS);
         }
 
-        // 2-1. 이미 해당 세션으로 동요가 생성된 경우 중복 방지
+        // 2-1. 이미 해당 세션으로 동요가 저장된 경우
         if (songRepository.existsBySessionId(sessionId)) {
             throw new CustomException(ErrorCode.DUPLICATE_SONG);
         }
 
+        // 2-2. 생성은 끝났고 아직 저장 전인 경우 (다시 생성하면 결과를 덮어씀)
+        SongStatus current = songStatusPublisher.currentStatus(sessionId);
+        if (current == SongStatus.READY || current == SongStatus.SAVED
+                || generatedResultCodec.exists(RedisKeyUtil.getGeneratedSongKey(userId, sessionId))) {
+            throw new CustomException(ErrorCode.SONG_ALREADY_GENERATED);
+        }
+
         // 3. 분위기 설정 (없으면 랜덤)
         Mood mood = child.getMood();
         if (mood == null) {
-            List<Mood> moodList = moodRepository.findAll();
+            List<Mood> moodList = referenceDataCache.getMoods();
             if (moodList.isEmpty()) {
                 throw new CustomException(ErrorCode.MOOD_NOT_FOUND);
             }
@@ -98,128 +110,93 @@ public class SongService {
         Voice songVoice = child.getSongVoice();
         if (songVoice == null || songVoice.getName() == null || songVoice.getName().isBlank()) {
             int randomVoiceId = new Random().nextBoolean() ? 1 : 2;
-            songVoice = voiceRepository.findById(randomVoiceId)
+            songVoice = referenceDataCache.findDefaultVoice(randomVoiceId)
                     .orElseThrow(() -> new CustomException(ErrorCode.VOICE_NOT_FOUND));
         }
 
 
-        // 5. 상태: REQUESTED
-        stringRedisTemplate.opsForValue().set(
-                RedisKeyUtil.getSongStatusKey(sessionId),
-                SongStatus.REQUESTED.name()
-        );
-
-        // 6. FastAPI 요청
-        Map<String, Object> fastApiRequest = Map.of(
-                "userId", userId,
-                "sessionId", sessionId,
-                "moodName", mood.getName(),
-                "voiceName", songVoice.getName()
-        );
+        // 5. 세션 선점 (동시 요청/재요청은 409로 알리고 이미 등록된 작업을 그대로 사용)
+        if (!songJobQueue.tryClaim(sessionId)) {
+            log.info("⏭️ 이미 진행 중인 동요 생성 요청: sessionId={}", sessionId);
+            throw new CustomException(ErrorCode.SONG_GENERATION_IN_PROGRESS);
+        }
 
+        // 6. 상태: REQUESTED + 작업 등록 (워커는 REQUESTED일 때만 IN_PROGRESS로 바꾸므로 상태를 먼저 기록)
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            String jsonPayload = mapper.writeValueAsString(fastApiRequest);
-            log.info("📤 FastAPI 전송 데이터: {}", jsonPayload);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<String> entity = new HttpEntity<>(jsonPayload, headers);
-
-            ResponseEntity<String> response = new RestTemplate().postForEntity(
-                    FASTAPI_URL, entity, String.class
-            );
-
-            if (response.getStatusCode().isError()) {
-                log.error("❌ FastAPI 응답 실패: status={}, body={}",
-                        response.getStatusCodeValue(), response.getBody());
-                stringRedisTemplate.opsForValue().set(
-                        RedisKeyUtil.getSongStatusKey(sessionId),
-                        SongStatus.FAILED.name()
-                );
-                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
-
-            // 7. 상태: IN_PROGRESS
-            stringRedisTemplate.opsForValue().set(
-                    RedisKeyUtil.getSongStatusKey(sessionId),
-                    SongStatus.IN_PROGRESS.name()
-            );
-
+            songStatusPublisher.publish(userId, sessionId, SongStatus.REQUESTED);
+            songJobQueue.enqueue(SongGenerationJob.of(userId, childId, sessionId, mood.getName(), songVoice.getName()));
         } catch (Exception e) {
-            log.error("❌ FastAPI 호출 중 예외 발생", e);
-            stringRedisTemplate.opsForValue().set(
-                    RedisKeyUtil.getSongStatusKey(sessionId),
-                    SongStatus.FAILED.name()
-            );
+            log.error("❌ 동요 생성 작업 등록 실패: sessionId={}", sessionId, e);
+            songJobQueue.releaseClaim(sessionId);
+            songStatusPublisher.publish(userId, sessionId, SongStatus.FAILED);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 
-    // 동요 저장 (Redis -> RDB)
+    /**
+     * 동요 저장 (Redis -> RDB)
+     * - 같은 세션 저장 요청은 세션 행 잠금으로 직렬화, 이미 저장된 경우 기존 동요와 이어진 세션을 그대로 반환
+     * - Idempotency-Key가 있으면 같은 자녀/세션의 같은 키 재요청은 세션 잠금 없이 저장된 응답 반환
+     */
     @Transactional
-    public SongGenerateResponseDto getGeneratedSong(Integer userId, Integer childId, Integer sessionId) {
+    public SongGenerateResponseDto getGeneratedSong(Integer userId, Integer childId, Integer sessionId, String idempotencyKey) {
         // 1. 자녀 검증
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+        customAuthentication.validateChildOwnership(userId, childId);
+
+        // 1-1. 같은 자녀/세션에 같은 키로 이미 처리된 요청 (세션 검증을 통과한 요청만 저장됨)
+        SongGenerateResponseDto replayed = findIdempotentResponse(userId, childId, sessionId, idempotencyKey);
+        if (replayed != null) {
+            return replayed;
         }
 
-        // 2. 세션 검증
-        Session session = sessionRepository.findById(sessionId)
+        // 2. 세션 검증 (행 잠금: 동시 요청은 여기서 대기)
+        Session session = sessionRepository.findByIdForUpdate(sessionId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
         if (!session.getChild().getId().equals(childId)) {
             throw new CustomException(ErrorCode.INVALID_SESSION_ACCESS);
         }
 
-        // 2-1. 이미 해당 세션으로 동요가 저장된 경우 중복 방지
-        if (songRepository.existsBySessionId(sessionId)) {
-            throw new CustomException(ErrorCode.DUPLICATE_SONG);
+        // 2-1. 이미 해당 세션으로 동요가 저장된 경우 기존 결과 반환 (새 세션 추가 생성 없음)
+        Optional<Song> saved = songRepository.findWithMoodBySessionId(sessionId);
+        if (saved.isPresent()) {
+            log.info("⏭️ 이미 저장된 동요 반환: sessionId={}, songId={}", sessionId, saved.get().getId());
+            SongGenerateResponseDto response = SongGenerateResponseDto.of(saved.get(), saved.get().getNextSessionId());
+            storeIdempotentResponseAfterCommit(userId, childId, sessionId, idempotencyKey, response);
+            return response;
         }
 
         // 3. Redis 결과 조회
-        String redisKey = RedisKeyUtil.getGeneratedSongKey(userId, sessionId);
-        String resultJson = stringRedisTemplate.opsForValue().get(redisKey);
-        if (resultJson == null) {
+        GeneratedSongResult result = generatedResultCodec.readSong(RedisKeyUtil.getGeneratedSongKey(userId, sessionId));
+        if (result == null) {
             throw new CustomException(ErrorCode.RESOURCE_NOT_FOUND);
         }
 
         try {
-            JsonNode json = new ObjectMapper().readTree(resultJson);
-            String lyricsEn = json.path("lyrics_en").asText(null);
-            String lyricsKo = json.path("lyrics_ko").asText(null);
-            String songUrl = json.path("song_url").asText(null);
-            String moodName = json.path("mood").asText(null);
-            String voiceName = json.path("voice").asText(null);
-            String title = json.path("title").asText("AI Generated Song");
-
-            if (lyricsEn == null || lyricsKo == null || songUrl == null || moodName == null || voiceName == null) {
+            if (result.getLyricsEn() == null || result.getLyricsKo() == null || result.getSongUrl() == null
+                    || result.getMood() == null || result.getVoice() == null) {
                 throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
             }
+            String title = (result.getTitle() != null) ? result.getTitle() : DEFAULT_SONG_TITLE;
 
             // 4. Mood 엔티티 조회
-            Mood mood = moodRepository.findByName(moodName)
+            Mood mood = referenceDataCache.findMoodByName(result.getMood())
                     .orElseThrow(() -> new CustomException(ErrorCode.MOOD_NOT_FOUND));
 
-            // 5. Song 저장
+            // 5. Song 저장 (세션당 1개: 유니크 제약으로 한 번 더 보장)
             Song song = Song.builder()
                     .mood(mood)
                     .title(title)
-                    .lyric(lyricsEn)
-                    .description(lyricsKo)
-                    .songUrl(songUrl)
+                    .lyric(result.getLyricsEn())
+                    .description(result.getLyricsKo())
+                    .songUrl(result.getSongUrl())
                     .session(session)
                     .duration(95)
                     .build();
 
-            songRepository.save(song);
+            songRepository.saveAndFlush(song);
 
-            // 6. 상태 업데이트
-            stringRedisTemplate.opsForValue().set(
-                    RedisKeyUtil.getSongStatusKey(sessionId),
-                    SongStatus.SAVED.name()
-            );
+            // 6. 상태 업데이트 (커밋 이후)
+            songStatusPublisher.publishAfterCommit(userId, sessionId, SongStatus.SAVED, song.getId());
 
             // 7. 세션 종료 및 새로운 세션 생성
             session.markSongDoneAndFinish();
@@ -228,27 +205,64 @@ public class SongService {
             CreateSessionResponse newSession = sessionService.forceCreateNewSession(
                     userId, childId, session.getTheme().getId()
             );
+            song.assignNextSession(newSession.getSessionId());
 
-            return SongGenerateResponseDto.of(song, newSession.getSessionId());
+            SongGenerateResponseDto response = SongGenerateResponseDto.of(song, newSession.getSessionId());
+            storeIdempotentResponseAfterCommit(userId, childId, sessionId, idempotencyKey, response);
+            return response;
 
-        } catch (JsonProcessingException e) {
-            log.error("❌ Redis에서 동요 결과 파싱 실패", e);
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (CustomException e) {
+            throw e;
+        } catch (DataIntegrityViolationException e) {
+            // 잠금 없이 들어온 동시 저장 (재요청 시 기존 동요 반환)
+            log.warn("⚠️ 동요 중복 저장 차단: sessionId={}", sessionId);
+            throw new CustomException(ErrorCode.DUPLICATE_SONG);
         } catch (Exception e) {
             log.error("❌ 동요 저장 실패", e);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 
+    private SongGenerateResponseDto findIdempotentResponse(Integer userId, Integer childId, Integer sessionId,
+                                                           String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return null;
+        }
+        try {
+            return redisService.get(SONG_SAVE_RESPONSE,
+                    RedisKeyUtil.getSongSaveIdempotencyKey(userId, childId, sessionId, idempotencyKey));
+        } catch (Exception e) {
+            // 조회 실패 시 일반 저장 경로로 진행 (세션 잠금으로 중복은 막힘)
+            log.warn("⚠️ 동요 저장 멱등 키 조회 실패: userId={}", userId, e);
+            return null;
+        }
+    }
+
+    // 커밋된 응답만 저장 (롤백된 요청을 재요청하면 다시 처리)
+    private void storeIdempotentResponseAfterCommit(Integer userId, Integer childId, Integer sessionId,
+                                                    String idempotencyKey, SongGenerateResponseDto response) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    redisService.save(SONG_SAVE_RESPONSE,
+                            RedisKeyUtil.getSongSaveIdempotencyKey(userId, childId, sessionId, idempotencyKey),
+                            response, IDEMPOTENCY_TTL);
+                } catch (Exception e) {
+                    log.warn("⚠️ 동요 저장 멱등 키 저장 실패: userId={}", userId, e);
+                }
+            }
+        });
+    }
+
     // 동요 목록 조회
     @Transactional(readOnly = true)
     public SongResponseList getSongsByChild(Integer userId, Integer childId) {
         // 자녀 검증
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
+        customAuthentication.validateChildOwnership(userId, childId);
 
         // 자녀의 세션을 기준으로 동요 목록 조회
         List<Song> songs = songRepository.findAllBySession_Child_IdOrderByCreatedAtDesc(childId);
@@ -284,11 +298,7 @@ public class SongService {
     public void deleteSong(Integer userId, Integer childId, Integer songId) {
 
         // 1. 자녀 소유자 검증
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
+        customAuthentication.validateChildOwnership(userId, childId);
 
         // 2. 동요 조회
         Song song = songRepository.findById(songId)
@@ -302,11 +312,7 @@ public class SongService {
     @Transactional(readOnly = true)
     public SongStatusResponse getSongStatus(Integer userId, Integer childId, Integer sessionId) {
         // 1. 자녀 검증
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
+        customAuthentication.validateChildOwnership(userId, childId);
 
         // 2. 세션 검증
         Session session = sessionRepository.findById(sessionId)
@@ -323,16 +329,23 @@ public class SongService {
         log.info("\uD83D\uDCCC Redis 결과 키: {}", redisGeneratedKey);
 
         // 4. 상태 조회
-        String statusStr = stringRedisTemplate.opsForValue().get(redisStatusKey);
+        // 상태 폴링은 조회 전용 → 레플리카 우선
+        StringRedisTemplate reader = redisReadRouting.reader();
+        String statusStr = reader.opsForValue().get(redisStatusKey);
         log.info("\uD83D\uDCE5 조회된 상태 문자열: {}", statusStr);
         SongStatus status = (statusStr != null) ? SongStatus.valueOf(statusStr) : SongStatus.NONE;
 
-        // 5. 보정
-        boolean redisKeyExists = Boolean.TRUE.equals(stringRedisTemplate.hasKey(redisGeneratedKey));
+        // 5. 보정 (레플리카 값은 표시용, 변경은 프라이머리에서 비교 후 수행)
+        boolean redisKeyExists = Boolean.TRUE.equals(reader.hasKey(redisGeneratedKey));
         if (status == SongStatus.IN_PROGRESS && redisKeyExists) {
-            status = SongStatus.READY;
-            stringRedisTemplate.opsForValue().set(redisStatusKey, SongStatus.READY.name());
-            log.info("\u2705 상태 보정: IN_PROGRESS \u2192 READY (결과 키 존재)");
+            if (songStatusPublisher.publishIfCurrent(userId, sessionId, SongStatus.IN_PROGRESS, SongStatus.READY)) {
+                status = SongStatus.READY;
+                log.info("\u2705 상태 보정: IN_PROGRESS \u2192 READY (결과 키 존재)");
+            } else {
+                // 그 사이 프라이머리 상태가 바뀐 경우 (SAVED, FAILED 등) 그 값을 그대로 사용
+                SongStatus current = songStatusPublisher.currentStatus(sessionId);
+                status = (current != null) ? current : SongStatus.NONE;
+            }
         }
 
         // 6. RDB 조회 - session 기준
@@ -347,14 +360,12 @@ public class SongService {
 
         if ((status == SongStatus.READY || status == SongStatus.SAVED) && redisKeyExists) {
             try {
-                String resultJson = stringRedisTemplate.opsForValue().get(redisGeneratedKey);
-                log.info("\uD83C\uDFB6 Redis 결과 JSON: {}", resultJson);
-
-                JsonNode jsonNode = new ObjectMapper().readTree(resultJson);
-                songUrl = jsonNode.path("song_url").asText(null);
-                lyricsKo = jsonNode.path("lyrics_ko").asText(null);
-                lyricsEn = jsonNode.path("lyrics_en").asText(null);
-
+                GeneratedSongResult result = generatedResultCodec.readSong(redisGeneratedKey);
+                if (result != null) {
+                    songUrl = result.getSongUrl();
+                    lyricsKo = result.getLyricsKo();
+                    lyricsEn = result.getLyricsEn();
+                }
             } catch (Exception e) {
                 log.error("\u274C Redis 동요 결과 파싱 실패", e);
             }
@@ -378,11 +389,8 @@ public class SongService {
     @Transactional
     public boolean toggleLikeSong(Integer userId, Integer childId, Integer songId) {
         // 1. 자녀 검증
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
+        customAuthentication.validateChildOwnership(userId, childId);
+        Child child = childRepository.getReferenceById(childId);
 
         // 2. 동요 검증
         Song song = songRepository.findById(songId)
@@ -411,12 +419,8 @@ public class SongService {
     @Transactional(readOnly = true)
     public boolean isSongLiked(Integer userId, Integer childId, Integer songId) {
         // 1. 자녀 검증
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
+        customAuthentication.validateChildOwnership(userId, childId);
+        Child child = childRepository.getReferenceById(childId);
 
         // 2. 동요 존재 여부 확인
         Song song = songRepository.findById(songId)
@@ -431,12 +435,8 @@ public class SongService {
     @Transactional(readOnly = true)
     public SongResponseList getLikedSongs(Integer userId, Integer childId) {
         // 1. 자녀 검증
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
+        customAuthentication.validateChildOwnership(userId, childId);
+        Child child = childRepository.getReferenceById(childId);
 
         // 2. 찜한 동요 목록 조회
         List<LikedSong> likedSongs = likedSongRepository.findAllByChild(child);
@@ -0,0 +1,109 @@
+package com.ssafy.aieng.domain.song.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.aieng.domain.song.dto.event.SongStatusEvent;
+import com.ssafy.aieng.domain.song.entity.SongStatus;
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 동요 생성 상태 저장 + 변경 알림 발행
+ * - 상태 키는 기존과 동일하게 유지 (폴링 API 호환)
+ * - 구독 중인 SSE 스트림은 알림만으로 갱신됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SongStatusPublisher {
+
+    // 현재 상태가 expected 중 하나일 때만 변경 (다른 서버/워커가 먼저 바꾼 상태를 덮어쓰지 않도록)
+    // ARGV[1]: 바꿀 상태, ARGV[2..]: 허용하는 현재 상태
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            for i = 2, #ARGV do
+                if current == ARGV[i] then
+                    redis.call('SET', KEYS[1], ARGV[1])
+                    return 1
+                end
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void publish(Integer userId, Integer sessionId, SongStatus status) {
+        publish(userId, sessionId, status, null);
+    }
+
+    public void publish(Integer userId, Integer sessionId, SongStatus status, Integer songId) {
+        stringRedisTemplate.opsForValue().set(RedisKeyUtil.getSongStatusKey(sessionId), status.name());
+        sendEvent(userId, sessionId, status, songId);
+    }
+
+    /**
+     * 프라이머리의 상태가 expected일 때만 next로 바꾸고 알림 발행
+     * @return 변경했으면 true, 이미 다른 상태면 false
+     */
+    public boolean publishIfCurrent(Integer userId, Integer sessionId, SongStatus expected, SongStatus next) {
+        return publishIfCurrent(userId, sessionId, List.of(expected), next);
+    }
+
+    // 프라이머리의 상태가 expected 중 하나일 때만 next로 변경
+    public boolean publishIfCurrent(Integer userId, Integer sessionId, Collection<SongStatus> expected, SongStatus next) {
+        Object[] args = Stream.concat(Stream.of(next), expected.stream()).map(SongStatus::name).toArray();
+        Long changed = stringRedisTemplate.execute(COMPARE_AND_SET_SCRIPT,
+                List.of(RedisKeyUtil.getSongStatusKey(sessionId)), args);
+        if (changed == null || changed != 1L) {
+            return false;
+        }
+        sendEvent(userId, sessionId, next, null);
+        return true;
+    }
+
+    // 프라이머리 기준 현재 상태 (없으면 null)
+    public SongStatus currentStatus(Integer sessionId) {
+        String status = stringRedisTemplate.opsForValue().get(RedisKeyUtil.getSongStatusKey(sessionId));
+        return (status != null) ? SongStatus.valueOf(status) : null;
+    }
+
+    // 트랜잭션 커밋 이후 발행 (롤백되면 상태를 바꾸지 않음, 알림 수신 측이 커밋 전 데이터를 읽지 않도록)
+    public void publishAfterCommit(Integer userId, Integer sessionId, SongStatus status, Integer songId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(userId, sessionId, status, songId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    publish(userId, sessionId, status, songId);
+                } catch (Exception e) {
+                    log.warn("⚠️ 동요 상태 발행 실패: sessionId={}, status={}", sessionId, status, e);
+                }
+            }
+        });
+    }
+
+    private void sendEvent(Integer userId, Integer sessionId, SongStatus status, Integer songId) {
+        try {
+            String message = objectMapper.writeValueAsString(SongStatusEvent.of(userId, sessionId, status.name(), songId));
+            stringRedisTemplate.convertAndSend(RedisKeyUtil.SONG_STATUS_CHANNEL, message);
+        } catch (JsonProcessingException e) {
+            // 알림 실패는 상태 저장에 영향을 주지 않음 (폴링으로 조회 가능)
+            log.warn("⚠️ 동요 상태 알림 발행 실패: sessionId={}, status={}", sessionId, status, e);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.ssafy.aieng.domain.song.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.aieng.domain.song.dto.event.SongStatusEvent;
+import com.ssafy.aieng.domain.song.dto.response.GeneratedSongResult;
+import com.ssafy.aieng.domain.song.dto.response.SongStatusDetail;
+import com.ssafy.aieng.domain.song.dto.response.SongStatusResponse;
+import com.ssafy.aieng.domain.song.entity.SongStatus;
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import com.ssafy.aieng.global.infra.fastapi.codec.GeneratedResultCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 동요 생성 상태 SSE 스트림
+ * - 구독 시점에 한 번만 소유자 검증 + 현재 상태 전송
+ * - 이후 상태 변경은 Redis Pub/Sub 알림으로만 전달 (DB 조회, 반복 GET 없음)
+ * - 결과 JSON은 세션당 한 번만 읽어 같은 세션의 모든 구독자에게 전송
+ * - 전송은 별도 스레드에서 처리 (느린 클라이언트가 Redis 리스너 스레드를 막지 않도록)
+ * - 프록시 유휴 타임아웃으로 끊기지 않도록 주기적으로 keepalive 코멘트 전송
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SongStatusStreamService implements MessageListener {
+
+    private static final Duration STREAM_TIMEOUT = Duration.ofMinutes(10);
+    private static final String EVENT_NAME = "status";
+    private static final String KEEPALIVE_COMMENT = "keepalive";
+    private static final long KEEPALIVE_INTERVAL_MS = 15_000;
+
+    private final SongService songService;
+    private final GeneratedResultCodec generatedResultCodec;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    // sessionId -> 구독 중인 SSE 연결
+    private final Map<Integer, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    // SSE 전송 전용 스레드 (단일 스레드라 같은 emitter에 동시에 쓰지 않음)
+    private ExecutorService sender;
+
+    @PostConstruct
+    public void init() {
+        sender = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "song-status-sse");
+            t.setDaemon(true);
+            return t;
+        });
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.SONG_STATUS_CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        redisMessageListenerContainer.removeMessageListener(this);
+        sender.shutdownNow();
+        emitters.values().forEach(set -> set.forEach(SseEmitter::complete));
+        emitters.clear();
+    }
+
+    // 상태 스트림 구독
+    public SseEmitter subscribe(Integer userId, Integer childId, Integer sessionId) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT.toMillis());
+
+        // 1. 알림 유실을 막기 위해 현재 상태 조회 전에 먼저 등록
+        register(sessionId, emitter);
+
+        // 2. 소유자 검증 + 현재 상태 (구독 시 1회)
+        SongStatusResponse current;
+        try {
+            current = songService.getSongStatus(userId, childId, sessionId);
+        } catch (RuntimeException e) {
+            unregister(sessionId, emitter);
+            throw e;
+        }
+
+        // 3. 현재 상태 전송 (이미 종료된 상태면 바로 닫음)
+        dispatch(() -> {
+            send(sessionId, emitter, current);
+            if (isTerminal(current.getStatus())) {
+                emitter.complete();
+            }
+        });
+        return emitter;
+    }
+
+    // 상태 변경 알림 수신 (리스너 스레드에서는 파싱만 하고 전송은 넘김)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        SongStatusEvent event;
+        try {
+            event = objectMapper.readValue(message.getBody(), SongStatusEvent.class);
+        } catch (IOException e) {
+            log.warn("⚠️ 동요 상태 알림 파싱 실패: {}", new String(message.getBody()), e);
+            return;
+        }
+
+        if (!emitters.containsKey(event.getSessionId())) {
+            return;
+        }
+        dispatch(() -> broadcast(event));
+    }
+
+    // 연결 유지용 코멘트 전송
+    @Scheduled(fixedDelay = KEEPALIVE_INTERVAL_MS)
+    public void keepalive() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        dispatch(() -> emitters.forEach((sessionId, targets) -> {
+            for (SseEmitter emitter : targets) {
+                try {
+                    emitter.send(SseEmitter.event().comment(KEEPALIVE_COMMENT));
+                } catch (IOException | IllegalStateException e) {
+                    unregister(sessionId, emitter);
+                }
+            }
+        }));
+    }
+
+    private void broadcast(SongStatusEvent event) {
+        Set<SseEmitter> targets = emitters.get(event.getSessionId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        SongStatusResponse response = toResponse(event);
+        boolean terminal = isTerminal(response.getStatus());
+        for (SseEmitter emitter : targets) {
+            send(event.getSessionId(), emitter, response);
+            if (terminal) {
+                emitter.complete();
+            }
+        }
+    }
+
+    private void dispatch(Runnable task) {
+        try {
+            sender.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            log.debug("SSE 전송 생략 (종료 중)");
+        }
+    }
+
+    private SongStatusResponse toResponse(SongStatusEvent event) {
+        SongStatus status = SongStatus.valueOf(event.getStatus());
+        String songUrl = null;
+        String lyricsKo = null;
+        String lyricsEn = null;
+        boolean redisKeyExists = false;
+
+        // READY 이후에만 결과 JSON 조회 (세션당 1회)
+        if ((status == SongStatus.READY || status == SongStatus.SAVED) && event.getUserId() != null) {
+            try {
+                GeneratedSongResult result = generatedResultCodec
+                        .readSong(RedisKeyUtil.getGeneratedSongKey(event.getUserId(), event.getSessionId()));
+                if (result != null) {
+                    songUrl = result.getSongUrl();
+                    lyricsKo = result.getLyricsKo();
+                    lyricsEn = result.getLyricsEn();
+                    redisKeyExists = true;
+                }
+            } catch (Exception e) {
+                log.error("❌ Redis 동요 결과 파싱 실패: sessionId={}", event.getSessionId(), e);
+            }
+        }
+
+        SongStatusDetail detail = new SongStatusDetail(
+                event.getSongId(),
+                event.getSessionId(),
+                redisKeyExists,
+                status == SongStatus.SAVED,
+                songUrl,
+                lyricsKo,
+                lyricsEn
+        );
+        return SongStatusResponse.of(status.name(), detail);
+    }
+
+    private void send(Integer sessionId, SseEmitter emitter, SongStatusResponse response) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(response));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            unregister(sessionId, emitter);
+        }
+    }
+
+    private void register(Integer sessionId, SseEmitter emitter) {
+        emitters.compute(sessionId, (id, set) -> {
+            Set<SseEmitter> target = (set != null) ? set : new CopyOnWriteArraySet<>();
+            target.add(emitter);
+            return target;
+        });
+        emitter.onCompletion(() -> unregister(sessionId, emitter));
+        emitter.onTimeout(() -> unregister(sessionId, emitter));
+        emitter.onError(e -> unregister(sessionId, emitter));
+    }
+
+    private void unregister(Integer sessionId, SseEmitter emitter) {
+        emitters.computeIfPresent(sessionId, (id, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private boolean isTerminal(String status) {
+        return SongStatus.SAVED.name().equals(status) || SongStatus.FAILED.name().equals(status);
+    }
+}
@@ -0,0 +1,145 @@
+package com.ssafy.aieng.domain.voice.service;
+
+import com.ssafy.aieng.domain.voice.dto.response.PronounceTestResponse;
+import com.ssafy.aieng.global.common.redis.codec.RedisValueType;
+import com.ssafy.aieng.global.common.redis.service.RedisService;
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import com.ssafy.aieng.global.error.ErrorCode;
+import com.ssafy.aieng.global.error.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 발음 평가 결과 캐시 (음성 파일 + 기대 문장 해시 기준)
+ * - 같은 녹음을 다시 보내면 GPU 평가 없이 Redis에 저장된 결과 반환
+ * - 같은 요청이 동시에 들어오면 평가는 한 번만 수행하고 결과를 함께 사용 (single-flight)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PronunciationResultCache {
+
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+    private static final RedisValueType<PronounceTestResponse> RESULT =
+            RedisValueType.of("Pronunciation:result", PronounceTestResponse.class);
+
+    private final RedisService redisService;
+    private final MeterRegistry meterRegistry;
+
+    // 진행 중인 평가 (fingerprint -> 결과)
+    private final Map<String, CompletableFuture<PronounceTestResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private Counter hits;
+    private Counter misses;
+    private Counter coalesced;
+
+    @PostConstruct
+    public void init() {
+        hits = Counter.builder("pronunciation.cache").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("pronunciation.cache").tag("result", "miss").register(meterRegistry);
+        coalesced = Counter.builder("pronunciation.cache").tag("result", "coalesced").register(meterRegistry);
+    }
+
+    // 기대 문장 + 음성 바이트의 SHA-256 (스트림으로 읽어 파일 전체를 메모리에 올리지 않음)
+    public static String fingerprint(String expectedText, InputStreamSource audio) throws IOException {
+        MessageDigest digest = sha256();
+        digest.update(expectedText.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        try (InputStream in = audio.getInputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public PronounceTestResponse getOrEvaluate(String fingerprint, Supplier<PronounceTestResponse> evaluator) {
+        // 1. 캐시 확인
+        PronounceTestResponse cached = read(fingerprint);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        // 2. 같은 요청이 진행 중이면 그 결과를 기다림
+        CompletableFuture<PronounceTestResponse> mine = new CompletableFuture<>();
+        CompletableFuture<PronounceTestResponse> running = inFlight.putIfAbsent(fingerprint, mine);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        // 3. 직접 평가 후 저장
+        try {
+            misses.increment();
+            PronounceTestResponse result = evaluator.get();
+            write(fingerprint, result);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(fingerprint, mine);
+        }
+    }
+
+    private PronounceTestResponse await(CompletableFuture<PronounceTestResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private PronounceTestResponse read(String fingerprint) {
+        try {
+            return redisService.get(RESULT, RedisKeyUtil.getPronunciationResultKey(fingerprint));
+        } catch (Exception e) {
+            // 캐시 장애 시 평가 서버로 진행
+            log.warn("⚠️ 발음 평가 캐시 조회 실패: fingerprint={}", fingerprint, e);
+            return null;
+        }
+    }
+
+    private void write(String fingerprint, PronounceTestResponse result) {
+        try {
+            redisService.save(RESULT, RedisKeyUtil.getPronunciationResultKey(fingerprint), result, TTL);
+        } catch (Exception e) {
+            log.warn("⚠️ 발음 평가 캐시 저장 실패: fingerprint={}", fingerprint, e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -12,32 +12,29 @@ import com.ssafy.aieng.domain.voice.dto.response.PronounceTestResponse;
 import com.ssafy.aieng.domain.voice.dto.response.VoiceResponse;
 import com.ssafy.aieng.domain.voice.entity.Voice;
 import com.ssafy.aieng.domain.voice.repository.VoiceRepository;
+import com.ssafy.aieng.global.common.CustomAuthentication;
 import com.ssafy.aieng.global.error.ErrorCode;
 import com.ssafy.aieng.global.error.exception.CustomException;
-import org.springframework.beans.factory.annotation.Value;
+import com.ssafy.aieng.global.infra.fastapi.client.FastApiClient;
+import com.ssafy.aieng.global.infra.fastapi.client.InputStreamRequestBody;
+import com.ssafy.aieng.global.infra.fastapi.constants.FastApiEndpoint;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.HttpHeaders;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.util.UriUtils;
 import java.io.IOException;
 
-import java.io.File;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class VoiceService {
@@ -45,17 +42,19 @@ public class VoiceService {
 
     private final VoiceRepository voiceRepository;
     private final ChildRepository childRepository;
+    private final CustomAuthentication customAuthentication;
     private final MoodRepository moodRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final FastApiClient fastApiClient;
+    private final ObjectMapper objectMapper;
+    private final PronunciationResultCache pronunciationResultCache;
+
+    private static final MediaType AUDIO_OGG = MediaType.get("audio/ogg");
+    private static final String AUDIO_FILENAME = "audio.ogg";
 
     // 음성파일 URL 등록
     @Transactional
     public void saveVoiceUrl(Integer userId, Integer childId, VoiceUploadRequest dto) {
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
+        customAuthentication.validateChildOwnership(userId, childId);
         String audioUrl = dto.getAudioUrl();
 
         Voice voice = Voice.builder()
@@ -78,11 +77,7 @@ public class VoiceService {
         }
 
         // 아이 유효성 및 권한 검사
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
+        customAuthentication.validateChildOwnership(userId, childId);
 
         // 아이의 목소리 가져오기
         List<VoiceResponse> childVoices = voiceRepository.findByChildId(childId).stream()
@@ -109,11 +104,7 @@ public class VoiceService {
             }
 
             // userId 일치 검증
-            Child child = childRepository.findById(childId)
-                    .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-            if (!child.getUser().getId().equals(userId)) {
-                throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-            }
+            customAuthentication.validateChildOwnership(userId, childId);
         }
         return VoiceResponse.from(voice);
     }
@@ -134,22 +125,16 @@ public class VoiceService {
         if (!voice.getChildId().equals(childId)) {
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
         }
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
+        customAuthentication.validateChildOwnership(userId, childId);
 
         voiceRepository.delete(voice);
     }
 
     // 목소리 세팅
     public void updateVoiceSettings(Integer userId, Integer childId, VoiceSettingRequest request) {
+        customAuthentication.validateChildOwnership(userId, childId);
         Child child = childRepository.findById(childId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
 
         // Voice 및 Mood 엔티티 조회 및 설정
         if (request.getTtsVoiceId() != null) {
@@ -189,11 +174,7 @@ public class VoiceService {
     }
 
     public List<VoiceResponse> getCustomVoicesByChildId(Integer userId, Integer childId) {
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
+        customAuthentication.validateChildOwnership(userId, childId);
 
         return voiceRepository.findAllCustomVoicesForChild(childId)
                 .stream().map(VoiceResponse::from).toList();
@@ -201,52 +182,44 @@ public class VoiceService {
 
 
 
-    @Value("${external.fastapi.base-url}")
-    private String fastApiBaseUrl = "http://175.121.93.70:51528";
-
     // 발음 테스트
     public PronounceTestResponse getPronounceTest(
             Integer childId, Integer userId, String expectedText, MultipartFile audioFile
     ) throws IOException {
         // 1. 자녀 존재 및 소유자 검증
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+        customAuthentication.validateChildOwnership(userId, childId);
+
+        if (audioFile == null || audioFile.isEmpty()) {
+            throw new CustomException(ErrorCode.VOICE_FILE_NOT_FOUND);
         }
 
-        // 2. 쿼리 파라미터 추가
-        String url = fastApiBaseUrl + "/pronunciation/evaluate?expected_text=" +
-                UriUtils.encodeQueryParam(expectedText, "UTF-8");
+        // 2. 같은 녹음 + 같은 문장이면 이전 평가 결과 재사용
+        String fingerprint = PronunciationResultCache.fingerprint(expectedText, audioFile);
+        return pronunciationResultCache.getOrEvaluate(fingerprint, () -> evaluatePronunciation(expectedText, audioFile));
+    }
 
-        // 3. Multipart/form-data body 생성
-        File tempFile = File.createTempFile("audio-", ".ogg");
+    // FastAPI 발음 평가 요청
+    private PronounceTestResponse evaluatePronunciation(String expectedText, MultipartFile audioFile) {
+        // Multipart/form-data body 생성 (임시 파일 없이 업로드 스트림을 그대로 전달)
+        RequestBody audioPart = new InputStreamRequestBody(audioFile, AUDIO_OGG, audioFile.getSize());
+
+        // FastAPI로 POST 요청 (쿼리 파라미터: expected_text)
+        String response = fastApiClient.postMultipart(
+                FastApiEndpoint.PRONUNCIATION,
+                Map.of("expected_text", expectedText),
+                "audio_file",
+                AUDIO_FILENAME,
+                audioPart
+        );
+
+        if (response == null || response.isBlank()) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
         try {
-            audioFile.transferTo(tempFile);
-
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("audio_file", new FileSystemResource(tempFile));
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-            HttpEntity<MultiValueMap<String, Object>> httpEntity = new HttpEntity<>(body, headers);
-
-            // 4. FastAPI로 POST 요청
-            ResponseEntity<PronounceTestResponse> response = restTemplate.postForEntity(
-                    url,
-                    httpEntity,
-                    PronounceTestResponse.class
-            );
-
-            if (response.getBody() == null) {
-                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
-            return response.getBody();
-
-        } finally {
-            // 5. 임시 파일 삭제 (에러 여부 관계 없이 삭제)
-            tempFile.delete();
+            return objectMapper.readValue(response, PronounceTestResponse.class);
+        } catch (IOException e) {
+            log.error("❌ 발음 평가 응답 파싱 실패: {}", response, e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 
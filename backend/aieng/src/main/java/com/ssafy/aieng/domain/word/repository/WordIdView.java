@@ -0,0 +1,9 @@
+package com.ssafy.aieng.domain.word.repository;
+
+// 단어 카탈로그 적재용 projection (id, 테마 id만 조회)
+public interface WordIdView {
+
+    Integer getId();
+
+    Integer getThemeId();
+}
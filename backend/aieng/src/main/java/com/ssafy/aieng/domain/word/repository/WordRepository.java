@@ -2,8 +2,10 @@ package com.ssafy.aieng.domain.word.repository;
 
 import com.ssafy.aieng.domain.word.entity.Word;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +17,12 @@ public interface WordRepository extends JpaRepository<Word, Integer> {
 
     // 단이 영어 뜻에 따른 조회
     Optional<Word> findByWordEn(String wordEn);
+
+    // 단어 카탈로그 적재 (id, 테마 id)
+    @Query("SELECT w.id AS id, w.theme.id AS themeId FROM Word w ORDER BY w.id")
+    List<WordIdView> findAllIdViews();
+
+    // 단어 테이블 변경 감지용 (마지막 수정 시각)
+    @Query("SELECT MAX(w.updatedAt) FROM Word w")
+    LocalDateTime findLatestUpdatedAt();
 }
\ No newline at end of file
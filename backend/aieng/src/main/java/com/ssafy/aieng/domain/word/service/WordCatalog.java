@@ -0,0 +1,206 @@
+package com.ssafy.aieng.domain.word.service;
+
+import com.ssafy.aieng.domain.word.repository.WordIdView;
+import com.ssafy.aieng.domain.word.repository.WordRepository;
+import com.ssafy.aieng.global.error.ErrorCode;
+import com.ssafy.aieng.global.error.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 단어 ID 카탈로그 (퀴즈 오답 보기 추출용)
+ * - 전체/테마별 단어 ID를 int 배열로 보관하는 불변 스냅샷
+ * - 단어 테이블 변경(개수, 마지막 수정 시각)이 감지되면 새 스냅샷으로 교체
+ * - 보기 추출 시 단어 테이블을 조회하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WordCatalog {
+
+    private static final long REFRESH_INTERVAL_MS = 60_000;
+    private static final int MAX_REJECTIONS = 64;
+
+    private final WordRepository wordRepository;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        refresh();
+    }
+
+    // 단어 테이블 변경 감지 (개수 + 마지막 수정 시각)
+    @Scheduled(initialDelay = REFRESH_INTERVAL_MS, fixedDelay = REFRESH_INTERVAL_MS)
+    public void refreshIfChanged() {
+        Snapshot current = snapshot;
+        long count = wordRepository.count();
+        LocalDateTime latestUpdatedAt = wordRepository.findLatestUpdatedAt();
+        if (current == null || current.count != count || !Objects.equals(current.latestUpdatedAt, latestUpdatedAt)) {
+            refresh();
+        }
+    }
+
+    public synchronized void refresh() {
+        // 변경 감지 값을 먼저 읽어 적재 중 변경은 다음 주기에 다시 반영되도록 함
+        long count = wordRepository.count();
+        LocalDateTime latestUpdatedAt = wordRepository.findLatestUpdatedAt();
+        List<WordIdView> rows = wordRepository.findAllIdViews();
+
+        long version = (snapshot != null) ? snapshot.version + 1 : 1;
+        snapshot = Snapshot.of(version, count, latestUpdatedAt, rows);
+        log.info("📚 단어 카탈로그 갱신: version={}, words={}, themes={}",
+                version, snapshot.wordIds.length, snapshot.idsByTheme.size());
+    }
+
+    public long getVersion() {
+        return current().version;
+    }
+
+    /**
+     * 정답 단어를 제외한 서로 다른 오답 단어 ID를 count개 추출
+     * @param preferSameTheme true면 정답과 같은 테마에서 우선 추출하고 부족한 만큼 전체에서 채움
+     */
+    public int[] sampleDistractors(int answerId, int count, boolean preferSameTheme) {
+        Snapshot current = current();
+        int[] result = new int[count];
+        int filled = 0;
+
+        if (preferSameTheme) {
+            Integer themeId = current.themeOf(answerId);
+            int[] themePool = (themeId != null) ? current.idsByTheme.get(themeId) : null;
+            if (themePool != null) {
+                filled = sample(themePool, answerId, result, 0, count);
+            }
+        }
+        filled = sample(current.wordIds, answerId, result, filled, count);
+
+        if (filled < count) {
+            throw new CustomException(ErrorCode.NOT_ENOUGH_WORDS);
+        }
+        return result;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    // pool에서 answerId와 이미 뽑힌 값을 제외하고 result[from..count) 채움, 채워진 개수 반환
+    private static int sample(int[] pool, int answerId, int[] result, int from, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int filled = from;
+        if (pool.length == 0) {
+            return filled;
+        }
+
+        // 1. 기각 샘플링 (풀이 충분히 크면 보기 1개당 O(1))
+        int rejections = 0;
+        while (filled < count && rejections < MAX_REJECTIONS) {
+            int candidate = pool[random.nextInt(pool.length)];
+            if (candidate == answerId || contains(result, filled, candidate)) {
+                rejections++;
+                continue;
+            }
+            result[filled++] = candidate;
+        }
+        if (filled == count) {
+            return filled;
+        }
+
+        // 2. 풀이 작아 기각이 많은 경우: 남은 후보를 섞어서 채움
+        int[] remaining = Arrays.stream(pool)
+                .filter(id -> id != answerId)
+                .toArray();
+        for (int i = remaining.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = remaining[i];
+            remaining[i] = remaining[j];
+            remaining[j] = tmp;
+        }
+        for (int id : remaining) {
+            if (filled == count) {
+                break;
+            }
+            if (!contains(result, filled, id)) {
+                result[filled++] = id;
+            }
+        }
+        return filled;
+    }
+
+    private static boolean contains(int[] values, int length, int target) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 불변 스냅샷
+    private static final class Snapshot {
+
+        private final long version;
+        private final long count;
+        private final LocalDateTime latestUpdatedAt;
+        private final int[] wordIds;            // 오름차순
+        private final int[] themeIds;           // wordIds와 같은 인덱스
+        private final Map<Integer, int[]> idsByTheme;
+
+        private Snapshot(long version, long count, LocalDateTime latestUpdatedAt,
+                         int[] wordIds, int[] themeIds, Map<Integer, int[]> idsByTheme) {
+            this.version = version;
+            this.count = count;
+            this.latestUpdatedAt = latestUpdatedAt;
+            this.wordIds = wordIds;
+            this.themeIds = themeIds;
+            this.idsByTheme = idsByTheme;
+        }
+
+        private static Snapshot of(long version, long count, LocalDateTime latestUpdatedAt, List<WordIdView> rows) {
+            int[] wordIds = new int[rows.size()];
+            int[] themeIds = new int[rows.size()];
+            Map<Integer, Integer> themeSizes = new HashMap<>();
+            for (int i = 0; i < rows.size(); i++) {
+                wordIds[i] = rows.get(i).getId();
+                themeIds[i] = rows.get(i).getThemeId();
+                themeSizes.merge(themeIds[i], 1, Integer::sum);
+            }
+
+            Map<Integer, int[]> idsByTheme = new HashMap<>();
+            Map<Integer, Integer> cursors = new HashMap<>();
+            themeSizes.forEach((themeId, size) -> {
+                idsByTheme.put(themeId, new int[size]);
+                cursors.put(themeId, 0);
+            });
+            for (int i = 0; i < wordIds.length; i++) {
+                int cursor = cursors.merge(themeIds[i], 1, Integer::sum) - 1;
+                idsByTheme.get(themeIds[i])[cursor] = wordIds[i];
+            }
+
+            return new Snapshot(version, count, latestUpdatedAt, wordIds, themeIds, Map.copyOf(idsByTheme));
+        }
+
+        private Integer themeOf(int wordId) {
+            int index = Arrays.binarySearch(wordIds, wordId);
+            return index >= 0 ? themeIds[index] : null;
+        }
+    }
+}
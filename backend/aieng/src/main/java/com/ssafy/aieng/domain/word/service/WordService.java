@@ -1,10 +1,10 @@
 package com.ssafy.aieng.domain.word.service;
 
-import com.ssafy.aieng.domain.user.entity.User;
 import com.ssafy.aieng.domain.user.repository.UserRepository;
 import com.ssafy.aieng.domain.word.dto.response.WordResponse;
 import com.ssafy.aieng.domain.word.entity.Word;
 import com.ssafy.aieng.domain.word.repository.WordRepository;
+import com.ssafy.aieng.global.common.CustomAuthentication;
 import com.ssafy.aieng.global.error.ErrorCode;
 import com.ssafy.aieng.global.error.exception.CustomException;
 import lombok.RequiredArgsConstructor;
@@ -19,18 +19,18 @@ public class WordService {
 
    private final WordRepository wordRepository;
    private final UserRepository userRepository;
+   private final CustomAuthentication customAuthentication;
 
    // 단어 상세 조회
    @Transactional(readOnly = true)
    public WordResponse getWordDetail(Integer userId, Integer wordId, Integer childId) {
       // 1. 사용자 인증
-      User user = userRepository.findById(userId)
-              .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+      if (!userRepository.existsById(userId)) {
+         throw new CustomException(ErrorCode.USER_NOT_FOUND);
+      }
 
       // 2. 해당 자녀가 이 사용자 소속인지 검증
-      boolean ownsChild = user.getChildren().stream()
-              .anyMatch(child -> child.getId().equals(childId));
-      if (!ownsChild) {
+      if (!customAuthentication.isOwner(userId, childId)) {
          throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
       }
 
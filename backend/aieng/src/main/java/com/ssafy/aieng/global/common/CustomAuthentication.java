@@ -1,25 +1,113 @@
 package com.ssafy.aieng.global.common;
 
-import com.ssafy.aieng.domain.child.entity.Child;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.ssafy.aieng.domain.child.repository.ChildRepository;
 import com.ssafy.aieng.global.error.ErrorCode;
 import com.ssafy.aieng.global.error.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 유저-자녀 소유 검증 (모든 서비스 공통)
+ * - 요청 단위 메모: 같은 요청 안에서 반복 검증 시 조회 없음
+ * - 유저별 소유 자녀 ID 캐시 (짧은 TTL, 자녀 생성/삭제 시 무효화)
+ * - 캐시에 없는 자녀는 DB로 한 번 더 확인 (다른 서버에서 생성된 경우)
+ */
 @Component
 @RequiredArgsConstructor
 public class CustomAuthentication {
 
+    private static final String REQUEST_MEMO_ATTRIBUTE = CustomAuthentication.class.getName() + ".verified";
+    private static final Duration CACHE_TTL = Duration.ofMinutes(5);
+    private static final long CACHE_MAX_SIZE = 10_000;
+
     private final ChildRepository childRepository;
+    private final MeterRegistry meterRegistry;
+
+    // userId -> 소유 자녀 ID 목록
+    private final Cache<Integer, Set<Integer>> ownedChildren = Caffeine.newBuilder()
+            .expireAfterWrite(CACHE_TTL)
+            .maximumSize(CACHE_MAX_SIZE)
+            .recordStats()
+            .build();
+
+    @PostConstruct
+    public void init() {
+        CaffeineCacheMetrics.monitor(meterRegistry, ownedChildren, "childOwnership");
+    }
 
     // 유저와 아이 연관 검증
     public void validateChildOwnership(Integer userId, Integer childId) {
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
+        if (childId == null) {
+            throw new CustomException(ErrorCode.CHILD_NOT_FOUND);
+        }
 
-        if (!child.getUser().getId().equals(userId)) {
+        // 1. 같은 요청에서 이미 검증된 경우
+        String memoKey = userId + ":" + childId;
+        Set<String> memo = requestMemo();
+        if (memo != null && memo.contains(memoKey)) {
+            return;
+        }
+
+        // 2. 캐시 / DB 확인
+        if (!isOwner(userId, childId)) {
+            if (!childRepository.existsById(childId)) {
+                throw new CustomException(ErrorCode.CHILD_NOT_FOUND);
+            }
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
         }
+
+        if (memo != null) {
+            memo.add(memoKey);
+        }
+    }
+
+    // 소유 여부만 확인 (호출부에서 예외 종류를 정하는 경우)
+    public boolean isOwner(Integer userId, Integer childId) {
+        if (userId == null || childId == null) {
+            return false;
+        }
+
+        Set<Integer> owned = ownedChildren.get(userId, id -> Set.copyOf(childRepository.findIdsByUserId(id)));
+        if (owned.contains(childId)) {
+            return true;
+        }
+
+        // 캐시 이후 생성된 자녀
+        if (childRepository.existsByIdAndUserId(childId, userId)) {
+            ownedChildren.invalidate(userId);
+            return true;
+        }
+        return false;
+    }
+
+    // 자녀 생성/삭제 시 캐시 무효화
+    public void evictOwnedChildren(Integer userId) {
+        ownedChildren.invalidate(userId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;    // 요청 밖 (워커 스레드 등)
+        }
+
+        Object memo = attributes.getAttribute(REQUEST_MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashSet<String>();
+            attributes.setAttribute(REQUEST_MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Set<String>) memo;
     }
 }
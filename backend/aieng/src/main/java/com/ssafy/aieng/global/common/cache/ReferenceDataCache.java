@@ -0,0 +1,211 @@
+package com.ssafy.aieng.global.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.aieng.domain.mood.entity.Mood;
+import com.ssafy.aieng.domain.mood.repository.MoodRepository;
+import com.ssafy.aieng.domain.theme.entity.Theme;
+import com.ssafy.aieng.domain.theme.repository.ThemeRepository;
+import com.ssafy.aieng.domain.voice.entity.Voice;
+import com.ssafy.aieng.domain.voice.repository.VoiceRepository;
+import com.ssafy.aieng.domain.word.entity.Word;
+import com.ssafy.aieng.domain.word.repository.WordRepository;
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import com.ssafy.aieng.global.config.ReferenceDataProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기준 데이터 캐시 (테마, 분위기, 기본 목소리, 테마별 단어)
+ * - data.sql로 적재되는 거의 변하지 않는 데이터이므로 로컬 캐시에서 조회
+ * - 서버 시작 시 미리 적재, 갱신 요청 시 다른 서버에도 Redis Pub/Sub으로 전파
+ * - 캐시된 엔티티는 영속성 컨텍스트 밖의 객체이므로 수정하지 않고 읽기/연관관계 설정용으로만 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache implements MessageListener {
+
+    private static final String THEMES = "themes";
+    private static final String MOODS = "moods";
+    private static final String DEFAULT_VOICES = "defaultVoices";
+    private static final long WORDS_BY_THEME_MAX_SIZE = 1_000;
+
+    private final ThemeRepository themeRepository;
+    private final MoodRepository moodRepository;
+    private final VoiceRepository voiceRepository;
+    private final WordRepository wordRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final ReferenceDataProperties properties;
+
+    // 테마 목록 (ID 순서 유지)
+    private Cache<String, Map<Integer, Theme>> themes;
+    // 분위기 / 기본 목소리 목록
+    private Cache<String, List<Mood>> moods;
+    private Cache<String, List<Voice>> defaultVoices;
+    // themeId -> 단어 목록
+    private Cache<Integer, List<Word>> wordsByTheme;
+
+    @PostConstruct
+    public void init() {
+        themes = newCache(1);
+        moods = newCache(1);
+        defaultVoices = newCache(1);
+        wordsByTheme = newCache(WORDS_BY_THEME_MAX_SIZE);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, themes, "referenceTheme");
+        CaffeineCacheMetrics.monitor(meterRegistry, moods, "referenceMood");
+        CaffeineCacheMetrics.monitor(meterRegistry, defaultVoices, "referenceDefaultVoice");
+        CaffeineCacheMetrics.monitor(meterRegistry, wordsByTheme, "referenceWordsByTheme");
+
+        if (properties.isRedisInvalidation()) {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.REFERENCE_DATA_REFRESH_CHANNEL));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (properties.isRedisInvalidation()) {
+            redisMessageListenerContainer.removeMessageListener(this);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            load();
+        } catch (Exception e) {
+            // 첫 조회 시 다시 적재됨
+            log.warn("⚠️ 기준 데이터 사전 적재 실패", e);
+        }
+    }
+
+    public List<Theme> getAllThemes() {
+        return List.copyOf(themeMap().values());
+    }
+
+    public Optional<Theme> findTheme(Integer themeId) {
+        return Optional.ofNullable(themeId).map(themeMap()::get);
+    }
+
+    public List<Mood> getMoods() {
+        return moods.get(MOODS, key -> List.copyOf(moodRepository.findAll()));
+    }
+
+    public Optional<Mood> findMoodByName(String name) {
+        return getMoods().stream()
+                .filter(mood -> mood.getName().equals(name))
+                .findFirst();
+    }
+
+    public List<Voice> getDefaultVoices() {
+        return defaultVoices.get(DEFAULT_VOICES, key -> List.copyOf(voiceRepository.findAllDefaultVoices()));
+    }
+
+    public Optional<Voice> findDefaultVoice(Integer voiceId) {
+        return getDefaultVoices().stream()
+                .filter(voice -> voice.getId().equals(voiceId))
+                .findFirst();
+    }
+
+    // 호출부에서 섞거나 정렬할 수 있도록 복사본 반환
+    public List<Word> getWordsByTheme(Integer themeId) {
+        return new ArrayList<>(wordsByTheme.get(themeId, id -> List.copyOf(wordRepository.findAllByThemeId(id))));
+    }
+
+    // 전체 다시 적재 + 다른 서버에 알림 (관리자 요청)
+    public void refresh() {
+        invalidateAll();
+        load();
+        if (properties.isRedisInvalidation()) {
+            try {
+                stringRedisTemplate.convertAndSend(RedisKeyUtil.REFERENCE_DATA_REFRESH_CHANNEL, "all");
+            } catch (Exception e) {
+                // 다른 서버는 TTL 만료로 갱신됨
+                log.warn("⚠️ 기준 데이터 갱신 알림 실패", e);
+            }
+        }
+    }
+
+    // 캐시별 적재 건수 + 적중률
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put(THEMES, describe(themes));
+        stats.put(MOODS, describe(moods));
+        stats.put(DEFAULT_VOICES, describe(defaultVoices));
+        stats.put("wordsByTheme", describe(wordsByTheme));
+        return stats;
+    }
+
+    // 다른 서버의 갱신 알림 수신 (자기 자신이 보낸 알림도 수신되지만 다시 적재만 하므로 무방)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        invalidateAll();
+        try {
+            load();
+        } catch (Exception e) {
+            log.warn("⚠️ 기준 데이터 재적재 실패", e);
+        }
+    }
+
+    private void load() {
+        Map<Integer, Theme> loadedThemes = themeMap();
+        getMoods();
+        getDefaultVoices();
+        loadedThemes.keySet().forEach(this::getWordsByTheme);
+        log.info("📚 기준 데이터 적재: themes={}, moods={}, defaultVoices={}",
+                loadedThemes.size(), getMoods().size(), getDefaultVoices().size());
+    }
+
+    private Map<Integer, Theme> themeMap() {
+        return themes.get(THEMES, key -> themeRepository.findAll().stream()
+                .collect(Collectors.toMap(Theme::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new)));
+    }
+
+    private void invalidateAll() {
+        themes.invalidateAll();
+        moods.invalidateAll();
+        defaultVoices.invalidateAll();
+        wordsByTheme.invalidateAll();
+    }
+
+    private <K, V> Cache<K, V> newCache(long maxSize) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    private static Map<String, Object> describe(Cache<?, ?> cache) {
+        var stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        return result;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ssafy.aieng.global.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 기준 데이터 캐시 관리 엔드포인트
+ * - GET  /actuator/referencedata : 캐시별 적재 건수, 적중률
+ * - POST /actuator/referencedata : 전체 다시 적재 (다른 서버에도 전파)
+ * - 관리 포트(루프백)에서만 접근 가능 (SecurityConfig, management.server 참고)
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "referencedata")
+public class ReferenceDataEndpoint {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        return referenceDataCache.stats();
+    }
+
+    @WriteOperation
+    public Map<String, Object> refresh() {
+        referenceDataCache.refresh();
+        return referenceDataCache.stats();
+    }
+}
@@ -0,0 +1,64 @@
+package com.ssafy.aieng.global.common.redis.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ssafy.aieng.global.error.ErrorCode;
+import com.ssafy.aieng.global.error.exception.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 값 JSON 코덱 (클래스 정보 없는 일반 JSON)
+ * - 타입별 ObjectReader/ObjectWriter를 한 번만 만들어 재사용
+ * - 키 계열마다 타입을 하나로 고정 (같은 계열에 다른 타입을 쓰면 예외)
+ */
+@Slf4j
+@Component
+public class RedisValueCodec {
+
+    private final ObjectMapper objectMapper;
+
+    // 키 계열 -> 값 타입
+    private final Map<String, JavaType> families = new ConcurrentHashMap<>();
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public RedisValueCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> String encode(RedisValueType<T> type, T value) {
+        JavaType javaType = register(type);
+        try {
+            return writers.computeIfAbsent(javaType, objectMapper::writerFor).writeValueAsString(value);
+        } catch (IOException e) {
+            log.error("❌ Redis 값 직렬화 실패: family={}", type.getFamily(), e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    public <T> T decode(RedisValueType<T> type, String json) {
+        JavaType javaType = register(type);
+        try {
+            return readers.computeIfAbsent(javaType, objectMapper::readerFor).readValue(json);
+        } catch (IOException e) {
+            log.error("❌ Redis 값 역직렬화 실패: family={}", type.getFamily(), e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private JavaType register(RedisValueType<?> type) {
+        JavaType registered = families.putIfAbsent(type.getFamily(), type.getJavaType());
+        if (registered != null && !registered.equals(type.getJavaType())) {
+            throw new IllegalStateException("Redis 키 계열 타입 불일치: family=" + type.getFamily()
+                    + ", registered=" + registered + ", requested=" + type.getJavaType());
+        }
+        return type.getJavaType();
+    }
+}
@@ -0,0 +1,34 @@
+package com.ssafy.aieng.global.common.redis.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 키 계열(family)별 Redis 값 타입
+ * - 값에 클래스 정보를 넣지 않고, 읽는 쪽이 키 계열로 타입을 결정
+ * - 상수로 선언해 재사용 (JavaType은 한 번만 생성)
+ * 예: RedisValueType.of("Pronunciation:result", PronounceTestResponse.class)
+ */
+@Getter
+public final class RedisValueType<T> {
+
+    private final String family;
+    private final JavaType javaType;
+
+    private RedisValueType(String family, JavaType javaType) {
+        this.family = family;
+        this.javaType = javaType;
+    }
+
+    public static <T> RedisValueType<T> of(String family, Class<T> type) {
+        return new RedisValueType<>(family, TypeFactory.defaultInstance().constructType(type));
+    }
+
+    public static <E> RedisValueType<List<E>> listOf(String family, Class<E> elementType) {
+        return new RedisValueType<>(family,
+                TypeFactory.defaultInstance().constructCollectionType(List.class, elementType));
+    }
+}
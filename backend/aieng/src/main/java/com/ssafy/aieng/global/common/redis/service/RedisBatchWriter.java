@@ -0,0 +1,73 @@
+package com.ssafy.aieng.global.common.redis.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 키를 한 번의 왕복으로 쓰는 Redis 파이프라인 유틸
+ * - 명령 순서는 보장되지만 원자적이지는 않음 (일부 실패 시 나머지는 반영됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisBatchWriter {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 해시 여러 개 저장 + 키 목록을 인덱스 Set에 추가 (KEYS 없이 조회하기 위함)
+    public void putIndexedHashes(String indexKey, Map<String, Map<String, String>> hashes, Duration ttl) {
+        writeIndexedHashes(indexKey, List.of(), false, hashes, ttl);
+    }
+
+    // 기존 키와 인덱스 삭제 후 해시 여러 개 저장 + 인덱스 재구성
+    public void replaceIndexedHashes(String indexKey, Collection<String> deleteKeys,
+                                     Map<String, Map<String, String>> hashes, Duration ttl) {
+        writeIndexedHashes(indexKey, deleteKeys, true, hashes, ttl);
+    }
+
+    private void writeIndexedHashes(String indexKey, Collection<String> deleteKeys, boolean resetIndex,
+                                    Map<String, Map<String, String>> hashes, Duration ttl) {
+        long ttlSeconds = ttl.toSeconds();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            if (!deleteKeys.isEmpty()) {
+                redis.del(deleteKeys.toArray(String[]::new));
+            }
+            if (resetIndex) {
+                redis.del(indexKey);
+            }
+            hashes.forEach((key, fields) -> {
+                if (!fields.isEmpty()) {
+                    redis.hMSet(key, fields);
+                    redis.expire(key, ttlSeconds);
+                }
+            });
+            if (!hashes.isEmpty()) {
+                redis.sAdd(indexKey, hashes.keySet().toArray(String[]::new));
+                redis.expire(indexKey, ttlSeconds);
+            }
+            return null;
+        });
+    }
+
+    // Sorted Set 여러 개의 멤버 점수 증가 (key -> member -> 증가량)
+    public void incrementScores(Map<String, Map<String, Double>> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            increments.forEach((key, members) ->
+                    members.forEach((member, delta) -> redis.zIncrBy(key, delta, member)));
+            return null;
+        });
+    }
+}
@@ -0,0 +1,187 @@
+package com.ssafy.aieng.global.common.redis.service;
+
+import com.ssafy.aieng.global.config.RedisReplicaProperties;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SslOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.HashSet;
+
+/**
+ * 조회 전용 Redis 명령 라우팅
+ * - replica-reads가 켜져 있으면 레플리카 우선으로 읽는 별도 연결 사용
+ *   - Sentinel / Cluster: 토폴로지에서 레플리카 탐색
+ *   - 단일 주소 + replica-reads.nodes: 지정한 레플리카 노드 사용 (관리형 Redis의 읽기 엔드포인트 등)
+ * - 구성이 없거나 꺼져 있으면 기본(프라이머리) 연결 사용
+ * - 인증, SSL, DB 번호, 클라이언트 이름은 spring.data.redis 설정을 그대로 따름
+ * - 복제 지연이 있으므로 방금 쓴 값을 바로 읽어야 하는 곳, 조회 결과로 값을 바꾸는 곳에서는 사용하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisReadRouting {
+
+    private static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofSeconds(5);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisProperties redisProperties;
+    private final RedisReplicaProperties replicaProperties;
+    private final ObjectProvider<SslBundles> sslBundles;
+
+    private LettuceConnectionFactory replicaConnectionFactory;
+    private StringRedisTemplate replicaTemplate;
+
+    @PostConstruct
+    public void init() {
+        if (!replicaProperties.isEnabled()) {
+            return;
+        }
+
+        RedisConfiguration configuration = replicaConfiguration();
+        if (configuration == null) {
+            log.info("ℹ️ 단일 노드 Redis: 레플리카 읽기 없이 기본 연결 사용");
+            return;
+        }
+
+        replicaConnectionFactory = new LettuceConnectionFactory(configuration, clientConfiguration());
+        replicaConnectionFactory.afterPropertiesSet();
+        replicaConnectionFactory.start();
+        replicaTemplate = new StringRedisTemplate(replicaConnectionFactory);
+        replicaTemplate.afterPropertiesSet();
+        log.info("📖 Redis 레플리카 읽기 활성화: readFrom={}", replicaProperties.getReadFrom());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (replicaConnectionFactory != null) {
+            replicaConnectionFactory.destroy();
+        }
+    }
+
+    // 조회 전용 템플릿 (레플리카가 없으면 기본 템플릿)
+    public StringRedisTemplate reader() {
+        return (replicaTemplate != null) ? replicaTemplate : stringRedisTemplate;
+    }
+
+    private RedisConfiguration replicaConfiguration() {
+        if (redisProperties.getCluster() != null) {
+            RedisProperties.Cluster clusterProperties = redisProperties.getCluster();
+            RedisClusterConfiguration cluster = new RedisClusterConfiguration(clusterProperties.getNodes());
+            if (clusterProperties.getMaxRedirects() != null) {
+                cluster.setMaxRedirects(clusterProperties.getMaxRedirects());
+            }
+            cluster.setUsername(redisProperties.getUsername());
+            cluster.setPassword(RedisPassword.of(redisProperties.getPassword()));
+            return cluster;
+        }
+
+        if (redisProperties.getSentinel() != null) {
+            RedisProperties.Sentinel sentinel = redisProperties.getSentinel();
+            RedisSentinelConfiguration sentinelConfiguration = new RedisSentinelConfiguration(
+                    sentinel.getMaster(), new HashSet<>(sentinel.getNodes()));
+            sentinelConfiguration.setUsername(redisProperties.getUsername());
+            sentinelConfiguration.setPassword(RedisPassword.of(redisProperties.getPassword()));
+            sentinelConfiguration.setSentinelUsername(sentinel.getUsername());
+            sentinelConfiguration.setSentinelPassword(RedisPassword.of(sentinel.getPassword()));
+            sentinelConfiguration.setDatabase(redisProperties.getDatabase());
+            return sentinelConfiguration;
+        }
+
+        if (!replicaProperties.getNodes().isEmpty()) {
+            RedisStaticMasterReplicaConfiguration staticConfiguration =
+                    new RedisStaticMasterReplicaConfiguration(redisProperties.getHost(), redisProperties.getPort());
+            for (String node : replicaProperties.getNodes()) {
+                int separator = node.lastIndexOf(':');
+                staticConfiguration.node(node.substring(0, separator), Integer.parseInt(node.substring(separator + 1)));
+            }
+            staticConfiguration.setUsername(redisProperties.getUsername());
+            staticConfiguration.setPassword(RedisPassword.of(redisProperties.getPassword()));
+            staticConfiguration.setDatabase(redisProperties.getDatabase());
+            return staticConfiguration;
+        }
+
+        return null;
+    }
+
+    // 기본 연결과 같은 클라이언트 설정 + ReadFrom
+    private LettuceClientConfiguration clientConfiguration() {
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder()
+                .readFrom(ReadFrom.valueOf(replicaProperties.getReadFrom()))
+                .commandTimeout(redisProperties.getTimeout() != null ? redisProperties.getTimeout() : DEFAULT_COMMAND_TIMEOUT);
+
+        if (StringUtils.hasText(redisProperties.getClientName())) {
+            builder.clientName(redisProperties.getClientName());
+        }
+
+        RedisProperties.Ssl ssl = redisProperties.getSsl();
+        if (ssl.isEnabled()) {
+            builder.useSsl();
+        }
+        SslOptions sslOptions = sslOptions(ssl);
+
+        if (redisProperties.getCluster() != null) {
+            ClusterClientOptions.Builder options = ClusterClientOptions.builder()
+                    .topologyRefreshOptions(topologyRefreshOptions());
+            if (sslOptions != null) {
+                options.sslOptions(sslOptions);
+            }
+            builder.clientOptions(options.build());
+        } else if (sslOptions != null) {
+            builder.clientOptions(ClientOptions.builder().sslOptions(sslOptions).build());
+        }
+        return builder.build();
+    }
+
+    // spring.data.redis.ssl.bundle 지정 시 인증서 적용
+    private SslOptions sslOptions(RedisProperties.Ssl ssl) {
+        if (!ssl.isEnabled() || !StringUtils.hasText(ssl.getBundle())) {
+            return null;
+        }
+        SslBundle bundle = sslBundles.getObject().getBundle(ssl.getBundle());
+        SslOptions.Builder options = SslOptions.builder()
+                .keyManager(bundle.getManagers().getKeyManagerFactory())
+                .trustManager(bundle.getManagers().getTrustManagerFactory());
+        if (bundle.getOptions().getCiphers() != null) {
+            options.cipherSuites(bundle.getOptions().getCiphers());
+        }
+        if (bundle.getOptions().getEnabledProtocols() != null) {
+            options.protocols(bundle.getOptions().getEnabledProtocols());
+        }
+        return options.build();
+    }
+
+    // spring.data.redis.lettuce.cluster.refresh 설정 반영
+    private ClusterTopologyRefreshOptions topologyRefreshOptions() {
+        RedisProperties.Lettuce.Cluster.Refresh refresh = redisProperties.getLettuce().getCluster().getRefresh();
+        ClusterTopologyRefreshOptions.Builder options = ClusterTopologyRefreshOptions.builder()
+                .dynamicRefreshSources(refresh.isDynamicRefreshSources());
+        if (refresh.getPeriod() != null) {
+            options.enablePeriodicRefresh(refresh.getPeriod());
+        }
+        if (refresh.isAdaptive()) {
+            options.enableAllAdaptiveRefreshTriggers();
+        }
+        return options.build();
+    }
+}
@@ -1,42 +1,39 @@
 package com.ssafy.aieng.global.common.redis.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.aieng.global.common.redis.codec.RedisValueCodec;
+import com.ssafy.aieng.global.common.redis.codec.RedisValueType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.List;
 
+/**
+ * 타입이 정해진 Redis 값 저장/조회
+ * - 값은 클래스 정보 없는 JSON으로 저장 (읽을 때 RedisValueType으로 타입 결정)
+ */
 @Service
 @RequiredArgsConstructor
 public class RedisService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisValueCodec redisValueCodec;
 
-    public void save(String key, Object value, long ttlSeconds) {
-        redisTemplate.opsForValue().set(key, value, Duration.ofSeconds(ttlSeconds));
+    public <T> void save(RedisValueType<T> type, String key, T value, Duration ttl) {
+        stringRedisTemplate.opsForValue().set(key, redisValueCodec.encode(type, value), ttl);
     }
 
-    public <T> T get(String key, Class<T> clazz) {
-        Object obj = redisTemplate.opsForValue().get(key);
-        return obj == null ? null : clazz.cast(obj);
+    public <T> T get(RedisValueType<T> type, String key) {
+        String json = stringRedisTemplate.opsForValue().get(key);
+        return json == null ? null : redisValueCodec.decode(type, json);
     }
 
-    public <T> List<T> getList(String key, Class<T> elementType) {
-        Object obj = redisTemplate.opsForValue().get(key);
-        if (obj == null) return null;
-
-        return objectMapper.convertValue(
-                obj,
-                objectMapper.getTypeFactory().constructCollectionType(List.class, elementType)
-        );
+    public <E> List<E> getList(RedisValueType<List<E>> type, String key) {
+        return get(type, key);
     }
 
     public void delete(String key) {
-        redisTemplate.delete(key);
+        stringRedisTemplate.delete(key);
     }
-
-
 }
@@ -1,8 +1,7 @@
 package com.ssafy.aieng.global.common.util;
 
-import com.ssafy.aieng.domain.child.entity.Child;
-import com.ssafy.aieng.domain.child.repository.ChildRepository;
 import com.ssafy.aieng.domain.user.repository.UserRepository;
+import com.ssafy.aieng.global.common.CustomAuthentication;
 import com.ssafy.aieng.global.error.ErrorCode;
 import com.ssafy.aieng.global.error.exception.CustomException;
 import com.ssafy.aieng.global.security.UserPrincipal;
@@ -14,7 +13,7 @@ import org.springframework.stereotype.Component;
 public class AuthenticationUtil {
 
     private final UserRepository userRepository;
-    private final ChildRepository childRepository;
+    private final CustomAuthentication customAuthentication;
 
     // 유저 검증
     public Integer getCurrentUserId(UserPrincipal userPrincipal) {
@@ -26,10 +25,6 @@ public class AuthenticationUtil {
 
     //  자녀 소유 검증
     public void validateChildOwnership(Integer userId, Integer childId) {
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new CustomException(ErrorCode.CHILD_NOT_FOUND));
-        if (!child.getUser().getId().equals(userId)) {
-            throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
+        customAuthentication.validateChildOwnership(userId, childId);
     }
 }
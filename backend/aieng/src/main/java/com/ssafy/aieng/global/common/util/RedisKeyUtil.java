@@ -3,31 +3,141 @@ package com.ssafy.aieng.global.common.util;
 /**
  * Redis 키를 생성하는 유틸리티 클래스입니다.
  * 키 포맷을 표준화하여 Redis 데이터 구조를 일관되게 유지합니다.
+ * - 세션 단위 키는 {session:N} 해시 태그를 포함해 Redis Cluster에서 같은 슬롯에 배치 (다중 키 명령/Lua 사용 가능)
+ * - 자주 호출되므로 String.format 대신 문자열 연결 사용
+ * - FastAPI(app/utils/redis_keys.py)와 같은 형식을 유지해야 함
  */
 public class RedisKeyUtil {
 
+    /**
+     * 학습 콘텐츠 생성 완료 알림 채널 (FastAPI가 결과 저장 후 키 이름을 발행)
+     */
+    public static final String GENERATED_CONTENT_CHANNEL = "Learning:generated";
+
+    /**
+     * 동요 생성 상태 변경 알림 채널 (REQUESTED → IN_PROGRESS → READY → SAVED)
+     */
+    public static final String SONG_STATUS_CHANNEL = "Song:status";
+
+    /**
+     * 동요 생성 작업 큐 (Redis Stream) / 재시도 한도 초과 작업 보관용 Stream
+     */
+    public static final String SONG_JOB_STREAM = "Song:jobs";
+    public static final String SONG_JOB_DEAD_LETTER_STREAM = "Song:jobs:dead";
+
+    /**
+     * 퀴즈 조회 캐시 무효화 알림 채널 (메시지 본문 = quizId)
+     */
+    public static final String QUIZ_VIEW_EVICT_CHANNEL = "Quiz:view:evict";
+
+    /**
+     * 기준 데이터(테마, 분위기, 기본 목소리, 테마별 단어) 캐시 갱신 알림 채널
+     */
+    public static final String REFERENCE_DATA_REFRESH_CHANNEL = "Reference:refresh";
+
+    /**
+     * 세션 해시 태그 (같은 세션 키를 같은 슬롯에 배치)
+     * 예: {session:10}
+     */
+    public static String sessionTag(Integer sessionId) {
+        return "{session:" + sessionId + "}";
+    }
+
     /**
      * 학습 콘텐츠(이미지/문장 등) 생성 결과 저장용 키
-     * 예: Learning:user:3:session:10:word:cat
+     * 예: Learning:{session:10}:user:3:word:cat
      */
     public static String getGeneratedContentKey(Integer userId, Integer sessionId, String wordEn) {
-        return String.format("Learning:user:%d:session:%d:word:%s", userId, sessionId, wordEn);
+        return "Learning:" + sessionTag(sessionId) + ":user:" + userId + ":word:" + wordEn;
+    }
+
+    /**
+     * 세션 단어 키 목록 (Set: 생성 결과 키) - KEYS 없이 세션 단어를 조회하기 위한 인덱스
+     * 예: Learning:{session:10}:words
+     */
+    public static String getSessionWordIndexKey(Integer sessionId) {
+        return "Learning:" + sessionTag(sessionId) + ":words";
+    }
+
+    /**
+     * 학습 콘텐츠 생성 선점(중복 생성 방지)용 키
+     * 예: Learning:lease:{session:10}:user:3:word:cat
+     */
+    public static String getGenerationLeaseKey(Integer userId, Integer sessionId, String wordEn) {
+        return "Learning:lease:" + sessionTag(sessionId) + ":user:" + userId + ":word:" + wordEn;
+    }
+
+    /**
+     * 세션 간 재사용하는 단어 콘텐츠 풀 (List: 생성 결과 JSON, 최신순)
+     * 예: Learning:pool:word:cat:theme:동물:voice:{목소리 URL 해시}
+     */
+    public static String getContentPoolKey(String wordEn, String theme, String voiceHash) {
+        return "Learning:pool:word:" + wordEn + ":theme:" + theme + ":voice:" + voiceHash;
     }
 
     /**
      * 동요 생성 결과(가사, URL 등) 저장용 키
-     * 예: Song:user:3:session:10
+     * 예: Song:{session:10}:user:3
      */
     public static String getGeneratedSongKey(Integer userId, Integer sessionId) {
-        return String.format("Song:user:%d:session:%d", userId, sessionId);
+        return "Song:" + sessionTag(sessionId) + ":user:" + userId;
+    }
+
+    /**
+     * 동요 저장 요청 멱등 키 (같은 세션에 같은 Idempotency-Key 재요청 시 저장된 응답 반환)
+     * - 다른 자녀/세션에 같은 키를 쓰면 다른 요청으로 처리
+     * 예: Song:save:{session:10}:user:3:child:5:key:{Idempotency-Key}
+     */
+    public static String getSongSaveIdempotencyKey(Integer userId, Integer childId, Integer sessionId, String idempotencyKey) {
+        return "Song:save:" + sessionTag(sessionId) + ":user:" + userId + ":child:" + childId + ":key:" + idempotencyKey;
     }
 
     /**
      * 동요 생성 상태(REQUESTED, IN_PROGRESS 등) 저장용 키
-     * 예: Song:status:session:10
+     * 예: Song:status:{session:10}
      */
     public static String getSongStatusKey(Integer sessionId) {
-        return String.format("Song:status:session:%d", sessionId);
+        return "Song:status:" + sessionTag(sessionId);
+    }
+
+    /**
+     * 자녀별 단어도감 테마 진행률 카운터 (Hash: themeId -> 학습 단어 수)
+     * 예: Dictionary:progress:child:5
+     */
+    public static String getDictionaryProgressKey(Integer childId) {
+        return "Dictionary:progress:child:" + childId;
+    }
+
+    /**
+     * 유저별 태그 선호 점수 (Sorted Set: tag -> score)
+     * 예: user:3:tag_vector
+     */
+    public static String getUserTagVectorKey(Integer userId) {
+        return "user:" + userId + ":tag_vector";
+    }
+
+    /**
+     * 유저별 리프레시 토큰 저장용 키
+     * 예: refresh_token:3
+     */
+    public static String getRefreshTokenKey(String userId) {
+        return "refresh_token:" + userId;
+    }
+
+    /**
+     * 발음 평가 결과 캐시 키 (기대 문장 + 음성 파일 SHA-256)
+     * 예: Pronunciation:result:9f86d0...
+     */
+    public static String getPronunciationResultKey(String fingerprint) {
+        return "Pronunciation:result:" + fingerprint;
+    }
+
+    /**
+     * 동요 생성 작업 세션 선점(중복 요청 방지)용 키
+     * 예: Song:job:{session:10}
+     */
+    public static String getSongJobClaimKey(Integer sessionId) {
+        return "Song:job:" + sessionTag(sessionId);
     }
 
 }
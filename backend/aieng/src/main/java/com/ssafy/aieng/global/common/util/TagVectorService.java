@@ -1,37 +1,145 @@
 package com.ssafy.aieng.global.common.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.aieng.global.common.redis.service.RedisBatchWriter;
+import com.ssafy.aieng.global.common.redis.service.RedisReadRouting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 유저별 태그 선호 점수 (Redis Sorted Set)
+ * - 점수 증가는 로컬 버퍼에 모았다가 주기적으로 ZINCRBY 파이프라인으로 반영 (write-behind)
+ * - 조회는 자주 쓰는 유저만 로컬 캐시 (점수 내림차순 primitive 배열)
+ * - 반영 주기/캐시 TTL 동안은 다른 서버의 최신 점수가 보이지 않을 수 있음
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TagVectorService {
 
-    // Map<UserId, Map<Tag, Score>>
-    private final ConcurrentHashMap<Integer, ConcurrentHashMap<String, Double>> userTagScores = new ConcurrentHashMap<>();
+    private static final long FLUSH_INTERVAL_MS = 1_000;
+    private static final Duration CACHE_TTL = Duration.ofSeconds(30);
+    private static final long CACHE_MAX_SIZE = 10_000;
+    private static final int INITIAL_TAG_CAPACITY = 8;
+
+    private final RedisReadRouting redisReadRouting;
+    private final RedisBatchWriter redisBatchWriter;
+    private final MeterRegistry meterRegistry;
+
+    // 반영 대기 중인 증가량 (userId -> 태그별 누적값)
+    private final ConcurrentHashMap<Integer, PendingScores> pending = new ConcurrentHashMap<>();
 
-    private String getUserTagVectorKey(Integer userId) {
-        return "user:" + userId + ":tag_vector";
+    // 조회 캐시 (userId -> 점수 내림차순 벡터)
+    private final Cache<Integer, TagVector> vectors = Caffeine.newBuilder()
+            .expireAfterWrite(CACHE_TTL)
+            .maximumSize(CACHE_MAX_SIZE)
+            .recordStats()
+            .build();
+
+    @PostConstruct
+    public void init() {
+        CaffeineCacheMetrics.monitor(meterRegistry, vectors, "tagVector");
     }
 
-    // 태그 점수 증가
-    @Async
+    // 태그 점수 증가 (버퍼에만 기록, 다음 반영 주기에 Redis로 전송)
     public void increaseTagScore(Integer userId, String tag, double score) {
-        userTagScores.computeIfAbsent(userId, k -> new ConcurrentHashMap<>())
-                .compute(tag, (k, v) -> (v == null) ? score : v + score);
+        if (userId == null || tag == null || score == 0.0) {
+            return;
+        }
+        pending.compute(userId, (id, scores) -> {
+            PendingScores target = (scores != null) ? scores : new PendingScores();
+            target.add(tag, score);
+            return target;
+        });
     }
 
-    // Get all tag scores for a user
+    // 유저의 전체 태그 점수
     public Set<Map.Entry<String, Double>> getUserTagScores(Integer userId) {
-        return userTagScores.getOrDefault(userId, new ConcurrentHashMap<>()).entrySet();
+        return new LinkedHashSet<>(vector(userId).top(Integer.MAX_VALUE));
+    }
+
+    // 점수 상위 k개 태그 (내림차순)
+    public List<Map.Entry<String, Double>> getTopTags(Integer userId, int k) {
+        return vector(userId).top(k);
+    }
+
+    // 버퍼 → Redis 반영
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+    @PreDestroy
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 유저별로 꺼내면서 제거 (이후 증가분은 새 버퍼에 쌓임)
+        Map<Integer, Map<String, Double>> increments = new HashMap<>();
+        for (Integer userId : pending.keySet()) {
+            PendingScores scores = pending.remove(userId);
+            if (scores != null) {
+                increments.put(userId, scores.toMap());
+            }
+        }
+
+        // Redis 키는 전송할 때만 생성 (실패 시 키를 다시 해석하지 않고 userId로 되돌림)
+        Map<String, Map<String, Double>> byKey = new HashMap<>(increments.size() * 2);
+        increments.forEach((userId, scores) -> byKey.put(RedisKeyUtil.getUserTagVectorKey(userId), scores));
+
+        try {
+            redisBatchWriter.incrementScores(byKey);
+        } catch (Exception e) {
+            // 실패분은 버퍼로 되돌려 다음 주기에 재시도
+            log.warn("⚠️ 태그 점수 반영 실패, 다음 주기에 재시도: users={}", increments.size(), e);
+            increments.forEach((userId, scores) ->
+                    scores.forEach((tag, score) -> increaseTagScore(userId, tag, score)));
+            return;
+        }
+
+        increments.keySet().forEach(vectors::invalidate);
+    }
+
+    private TagVector vector(Integer userId) {
+        if (userId == null) {
+            return TagVector.EMPTY;
+        }
+        return vectors.get(userId, this::load);
+    }
+
+    private TagVector load(Integer userId) {
+        // 캐시 미스 조회만 레플리카로 (쓰기는 write-behind로 이미 지연됨)
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisReadRouting.reader().opsForZSet()
+                .reverseRangeWithScores(RedisKeyUtil.getUserTagVectorKey(userId), 0, -1);
+        if (tuples == null || tuples.isEmpty()) {
+            return TagVector.EMPTY;
+        }
+
+        String[] tags = new String[tuples.size()];
+        double[] scores = new double[tuples.size()];
+        int i = 0;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            tags[i] = tuple.getValue();
+            scores[i] = tuple.getScore() != null ? tuple.getScore() : 0.0;
+            i++;
+        }
+        return new TagVector(tags, scores);
     }
 
     public double getScoreWeight(double score) {
@@ -47,4 +155,59 @@ public class TagVectorService {
         if (score == 0.5) return -0.45;
         return 0.0; // 혹시 모를 예외 처리
     }
+
+    // 유저 1명의 반영 대기 증가량 (ConcurrentHashMap.compute 안에서만 수정)
+    private static final class PendingScores {
+
+        private String[] tags = new String[INITIAL_TAG_CAPACITY];
+        private double[] scores = new double[INITIAL_TAG_CAPACITY];
+        private int size;
+
+        private void add(String tag, double score) {
+            for (int i = 0; i < size; i++) {
+                if (tags[i].equals(tag)) {
+                    scores[i] += score;
+                    return;
+                }
+            }
+            if (size == tags.length) {
+                tags = Arrays.copyOf(tags, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            tags[size] = tag;
+            scores[size] = score;
+            size++;
+        }
+
+        private Map<String, Double> toMap() {
+            Map<String, Double> map = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                map.put(tags[i], scores[i]);
+            }
+            return map;
+        }
+    }
+
+    // 점수 내림차순 태그 벡터 (불변)
+    private static final class TagVector {
+
+        private static final TagVector EMPTY = new TagVector(new String[0], new double[0]);
+
+        private final String[] tags;
+        private final double[] scores;
+
+        private TagVector(String[] tags, double[] scores) {
+            this.tags = tags;
+            this.scores = scores;
+        }
+
+        private List<Map.Entry<String, Double>> top(int k) {
+            int limit = Math.max(0, Math.min(k, tags.length));
+            List<Map.Entry<String, Double>> result = new ArrayList<>(limit);
+            for (int i = 0; i < limit; i++) {
+                result.add(new AbstractMap.SimpleImmutableEntry<>(tags[i], scores[i]));
+            }
+            return result;
+        }
+    }
 }
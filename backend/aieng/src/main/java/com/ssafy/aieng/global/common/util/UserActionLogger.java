@@ -1,57 +1,34 @@
 package com.ssafy.aieng.global.common.util;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.aieng.global.infra.eventlog.EventLogWriter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
-import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class UserActionLogger {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    private final String baseLogDir = "/app/logs";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-    @Async
-    public void logAction(Integer userId, Integer bookId, String actionType) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
-        String formattedTime = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).format(formatter);
-
-        Map<String, Object> log = Map.of(
-                "user_id", userId,
-                "book_id", bookId,
-                "timestamp", formattedTime,
-                "action_type", actionType
-        );
+    private final EventLogWriter eventLogWriter;
 
-        try {
-            // 매번 현재 날짜 기준으로 파일 경로 설정
-            Path logPath = Paths.get(baseLogDir, "user_logs_" + LocalDate.now() + ".jsonl");
-
-            // 파일 없으면 생성
-            if (!Files.exists(logPath)) {
-                Files.createFile(logPath);
-            }
+    // 파일 기록은 EventLogWriter 전용 스레드에서 처리 (호출 스레드는 대기열에 넣기만 함)
+    public void logAction(Integer userId, Integer bookId, String actionType) {
+        ZonedDateTime now = ZonedDateTime.now(ZONE);
 
-            // JSONL 로그 작성
-            String jsonLine = objectMapper.writeValueAsString(log) + "\n";
-            Files.write(logPath, jsonLine.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        Map<String, Object> log = new LinkedHashMap<>();
+        log.put("user_id", userId);
+        log.put("book_id", bookId);
+        log.put("timestamp", now.format(FORMATTER));
+        log.put("action_type", actionType);
 
-        } catch (IOException e) {
-            System.err.println("Failed to write user log: " + e.getMessage());
-        }
+        eventLogWriter.append(now.toInstant(), log);
     }
 }
@@ -0,0 +1,30 @@
+package com.ssafy.aieng.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "content-reuse")
+public class ContentReuseProperties {
+
+    // 다른 세션에서 생성한 단어 콘텐츠(문장, 이미지, TTS) 재사용 여부
+    private boolean enabled = false;
+
+    // (단어, 테마, 목소리)별로 보관하는 콘텐츠 개수 (최신순)
+    private int poolSize = 5;
+
+    // 이 개수 이상 모였을 때부터 재사용 (너무 적으면 같은 콘텐츠만 반복됨)
+    private int minPoolSize = 3;
+
+    // 재사용이 가능해도 새로 생성하는 비율 (0.0 ~ 1.0, 콘텐츠 다양성 유지)
+    private double freshnessRatio = 0.2;
+
+    // 마지막으로 콘텐츠가 추가된 뒤 보관 기간
+    private Duration ttl = Duration.ofDays(7);
+}
@@ -0,0 +1,33 @@
+package com.ssafy.aieng.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "event-log")
+public class EventLogProperties {
+
+    // 로그 파일 위치: {dir}/{filePrefix}{yyyy-MM-dd}.jsonl
+    private String dir = "/app/logs";
+    private String filePrefix = "user_logs_";
+
+    // 쓰기 대기열 크기 / 가득 찼을 때 정책
+    private int queueCapacity = 10_000;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private Duration blockTimeout = Duration.ofMillis(100); // BLOCK 정책에서 최대 대기 시간
+
+    // 한 번에 모아서 쓰는 최대 건수 / 디스크 동기화(fsync) 주기
+    private int batchSize = 256;
+    private Duration fsyncInterval = Duration.ofSeconds(1);
+
+    public enum OverflowPolicy {
+        DROP,   // 바로 버림 (요청 지연 없음)
+        BLOCK   // blockTimeout까지 기다린 뒤에도 가득 차 있으면 버림
+    }
+}
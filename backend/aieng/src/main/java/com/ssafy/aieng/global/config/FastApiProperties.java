@@ -0,0 +1,44 @@
+package com.ssafy.aieng.global.config;
+
+import com.ssafy.aieng.global.infra.fastapi.constants.FastApiEndpoint;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "external.fastapi")
+public class FastApiProperties {
+
+    private String baseUrl;
+
+    // 커넥션 풀 (keep-alive 재사용)
+    private int maxIdleConnections = 20;
+    private Duration keepAlive = Duration.ofMinutes(5);
+
+    // 엔드포인트별 동시 요청 한도에 걸렸을 때 대기 시간
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+
+    private Map<FastApiEndpoint, Endpoint> endpoints = new EnumMap<>(FastApiEndpoint.class);
+
+    public Endpoint getEndpoint(FastApiEndpoint endpoint) {
+        return endpoints.getOrDefault(endpoint, new Endpoint());
+    }
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        private Duration connectTimeout = Duration.ofSeconds(3);
+        private Duration readTimeout = Duration.ofSeconds(30);
+        private int maxConcurrency = 8;
+        private DataSize maxUploadSize; // multipart 업로드 최대 크기 (없으면 제한 없음)
+    }
+}
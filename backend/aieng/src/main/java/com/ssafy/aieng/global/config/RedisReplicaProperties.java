@@ -0,0 +1,25 @@
+package com.ssafy.aieng.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "redis.replica-reads")
+public class RedisReplicaProperties {
+
+    // 조회 전용 명령을 레플리카로 보낼지 여부 (Sentinel / Cluster 구성 또는 nodes 지정 시 적용)
+    private boolean enabled = false;
+
+    // Lettuce ReadFrom 이름 (REPLICA_PREFERRED, REPLICA, NEAREST 등)
+    private String readFrom = "REPLICA_PREFERRED";
+
+    // 단일 주소(host/port) 구성에서 사용할 레플리카 노드 (host:port)
+    private List<String> nodes = new ArrayList<>();
+}
@@ -0,0 +1,21 @@
+package com.ssafy.aieng.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reference-data")
+public class ReferenceDataProperties {
+
+    // 테마/분위기/기본 목소리/테마별 단어 캐시 유지 시간 (DB를 직접 수정한 경우 대비)
+    private Duration ttl = Duration.ofHours(1);
+
+    // 갱신 시 다른 서버에도 Redis Pub/Sub으로 전파
+    private boolean redisInvalidation = true;
+}
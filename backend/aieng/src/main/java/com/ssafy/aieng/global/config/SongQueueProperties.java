@@ -0,0 +1,32 @@
+package com.ssafy.aieng.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "song.queue")
+public class SongQueueProperties {
+
+    // redis: Redis Streams / memory: 로컬 테스트용
+    private String type = "redis";
+
+    // GPU 서버로 동시에 보내는 동요 생성 요청 수
+    private int concurrency = 4;
+
+    // 재시도 (지수 백오프)
+    private int maxAttempts = 4;
+    private Duration initialBackoff = Duration.ofSeconds(2);
+    private Duration maxBackoff = Duration.ofSeconds(60);
+
+    // ACK 없이 이 시간이 지난 작업은 다른 워커가 가져감 (워커 장애 대비)
+    private Duration visibilityTimeout = Duration.ofMinutes(10);
+
+    // 세션당 중복 요청 방지 기간
+    private Duration claimTtl = Duration.ofHours(1);
+}
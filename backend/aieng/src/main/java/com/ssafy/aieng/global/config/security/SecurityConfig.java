@@ -2,9 +2,12 @@ package com.ssafy.aieng.global.config.security;
 
 import com.ssafy.aieng.global.security.jwt.JwtAuthenticationFilter;
 import com.ssafy.aieng.global.security.jwt.JwtTokenProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -12,6 +15,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
@@ -47,6 +51,9 @@ public class SecurityConfig {
 //                요청 URL별 인증 설정
                 .authorizeHttpRequests(authorize ->
                         authorize
+                                // 비동기 응답(CompletableFuture) 재디스패치는 최초 요청에서 이미 인증됨
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                                 // 소셜 로그인 or 토큰 검증 등 비인증 허용 경로
                                 .requestMatchers(
                                         "/api/oauth/**",             // 소셜 로그인용
@@ -55,6 +62,11 @@ public class SecurityConfig {
                                         "/oauth/kakao/**"
                                 ).permitAll()
 
+                                // actuator: health만 공개, 나머지(referencedata 재적재 등)는 서버 내부(루프백)에서만
+                                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                                .requestMatchers(EndpointRequest.toAnyEndpoint())
+                                .access(new WebExpressionAuthorizationManager("hasIpAddress('127.0.0.1') or hasIpAddress('::1')"))
+
                                 // 그 외 모든 /api/user/** 요청은 인증 필요
                                 .requestMatchers("/api/user/**").authenticated()
 
@@ -82,7 +94,7 @@ public class SecurityConfig {
                 "Authorization", "Content-Type", "X-Requested-With",
                 "Access-Control-Allow-Credentials", "Access-Control-Allow-Origin","Access-Control-Allow-Headers",
                 "Accept", "Origin", "Cookie", "Set-Cookie",
-                "Cache-Control", "Connection"
+                "Cache-Control", "Connection", "Idempotency-Key"
         ));
         configuration.setExposedHeaders(List.of("Set-Cookie"));  // 쿠키 노출 허용
         configuration.setAllowCredentials(true);
@@ -12,6 +12,8 @@ public enum  ErrorCode {
     INVALID_INPUT_VALUE(400, "C001", "잘못된 입력값입니다"),
     RESOURCE_NOT_FOUND(404, "C002", "요청한 리소스를 찾을 수 없습니다"),
     INTERNAL_SERVER_ERROR(500, "C003", "서버 내부 오류가 발생했습니다"),
+    EXTERNAL_SERVICE_BUSY(503, "C004", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
+    PAYLOAD_TOO_LARGE(413, "C005", "업로드 가능한 파일 크기를 초과했습니다"),
 
     // Authorization
     UNAUTHORIZED_ACCESS(401, "A001", "로그인이 필요한 서비스입니다"),
@@ -72,7 +74,9 @@ public enum  ErrorCode {
 
     // Song 관련 에러
     SONG_NOT_FOUND(404, "SG001", "동요를 찾을 수 없습니다."),
-    DUPLICATE_SONG(409, "SG002", "이미 저장된 동요입니다.");
+    DUPLICATE_SONG(409, "SG002", "이미 저장된 동요입니다."),
+    SONG_GENERATION_IN_PROGRESS(409, "SG003", "이미 동요를 생성 중입니다."),
+    SONG_ALREADY_GENERATED(409, "SG004", "이미 생성된 동요가 있습니다.");
 
 
     private final int status;
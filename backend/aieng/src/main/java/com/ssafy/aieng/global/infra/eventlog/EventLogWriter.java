@@ -0,0 +1,253 @@
+package com.ssafy.aieng.global.infra.eventlog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.aieng.global.config.EventLogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * JSONL 이벤트 로그 비동기 기록기
+ * - 요청 스레드는 대기열에 넣기만 하고, 전용 스레드 하나가 모아서 파일에 씀 (줄 섞임 없음)
+ * - 파일은 날짜가 바뀔 때만 교체하고 계속 열어 둠, fsync는 주기적으로만 수행
+ * - 대기열이 가득 차면 설정에 따라 바로 버리거나 잠시 기다린 뒤 버림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventLogWriter {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final byte NEW_LINE = '\n';
+
+    private final EventLogProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Queue<Event> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private Counter written;
+    private Counter dropped;
+    private Thread writer;
+    private volatile boolean running;
+
+    // 기록 스레드 전용 상태
+    private FileChannel channel;
+    private LocalDate channelDate;
+    private long lastFsyncAt;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("eventlog.queue.size", size, AtomicInteger::get)
+                .description("기록 대기 중인 이벤트 수")
+                .register(meterRegistry);
+        written = Counter.builder("eventlog.written").register(meterRegistry);
+        dropped = Counter.builder("eventlog.dropped").register(meterRegistry);
+
+        running = true;
+        writer = new Thread(this::writeLoop, "event-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 이벤트 1건 기록 요청 (파일 날짜는 timestamp 기준)
+     * @return 대기열에 들어갔으면 true, 가득 차서 버려졌으면 false
+     */
+    public boolean append(Instant timestamp, Object payload) {
+        if (!reserve()) {
+            dropped.increment();
+            return false;
+        }
+        // 기존과 같이 JVM 기본 시간대 기준 날짜로 파일을 나눔
+        queue.offer(new Event(LocalDate.ofInstant(timestamp, ZoneId.systemDefault()), payload));
+        LockSupport.unpark(writer);
+        return true;
+    }
+
+    public int getQueueSize() {
+        return size.get();
+    }
+
+    // 대기열 자리 확보 (CAS, 락 없음)
+    private boolean reserve() {
+        int capacity = properties.getQueueCapacity();
+        long deadline = 0L;
+        while (true) {
+            int current = size.get();
+            if (current < capacity) {
+                if (size.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+                continue;
+            }
+
+            if (properties.getOverflowPolicy() != EventLogProperties.OverflowPolicy.BLOCK || !running) {
+                return false;
+            }
+            long now = System.nanoTime();
+            if (deadline == 0L) {
+                deadline = now + properties.getBlockTimeout().toNanos();
+            } else if (now >= deadline) {
+                return false;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+    }
+
+    private void writeLoop() {
+        lastFsyncAt = System.nanoTime();
+        while (running || !queue.isEmpty()) {
+            try {
+                if (!writeBatch()) {
+                    fsyncIfDue();
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            } catch (Exception e) {
+                log.error("❌ 이벤트 로그 기록 실패", e);
+                closeChannel();
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        closeChannel();
+    }
+
+    // 최대 batchSize건을 모아서 씀, 쓴 이벤트가 없으면 false
+    private boolean writeBatch() throws IOException {
+        int count = 0;
+        Event event;
+        while (count < properties.getBatchSize() && (event = queue.poll()) != null) {
+            size.decrementAndGet();
+            count++;
+
+            // 날짜가 바뀌면 이전 파일을 비우고 교체
+            if (!event.date.equals(channelDate)) {
+                flush();
+                rollover(event.date);
+            }
+            encode(event);
+        }
+        if (count == 0) {
+            return false;
+        }
+
+        flush();
+        written.increment(count);
+        fsyncIfDue();
+        return true;
+    }
+
+    private void encode(Event event) throws IOException {
+        line.reset();
+        try {
+            objectMapper.writeValue(line, event.payload);
+        } catch (IOException e) {
+            log.warn("⚠️ 이벤트 로그 직렬화 실패: {}", event.payload, e);
+            dropped.increment();
+            return;
+        }
+        line.write(NEW_LINE);
+
+        if (buffer.remaining() < line.size()) {
+            flush();
+            if (buffer.capacity() < line.size()) {
+                buffer = ByteBuffer.allocateDirect(line.size());
+            }
+        }
+        buffer.put(line.toByteArray());
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void rollover(LocalDate date) throws IOException {
+        closeChannel();
+        Path dir = Paths.get(properties.getDir());
+        Files.createDirectories(dir);
+        Path path = dir.resolve(properties.getFilePrefix() + date + ".jsonl");
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        channelDate = date;
+        log.info("📝 이벤트 로그 파일 열기: {}", path);
+    }
+
+    private void fsyncIfDue() throws IOException {
+        long now = System.nanoTime();
+        if (channel != null && now - lastFsyncAt >= properties.getFsyncInterval().toNanos()) {
+            channel.force(false);
+            lastFsyncAt = now;
+        }
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            if (buffer.position() > 0) {
+                flush();
+            }
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("⚠️ 이벤트 로그 파일 닫기 실패", e);
+        } finally {
+            buffer.clear();
+            channel = null;
+            channelDate = null;
+        }
+    }
+
+    private static final class Event {
+
+        private final LocalDate date;
+        private final Object payload;
+
+        private Event(LocalDate date, Object payload) {
+            this.date = date;
+            this.payload = payload;
+        }
+    }
+}
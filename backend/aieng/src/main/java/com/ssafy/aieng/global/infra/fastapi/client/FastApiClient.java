@@ -0,0 +1,158 @@
+package com.ssafy.aieng.global.infra.fastapi.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.aieng.global.config.FastApiProperties;
+import com.ssafy.aieng.global.error.ErrorCode;
+import com.ssafy.aieng.global.error.exception.CustomException;
+import com.ssafy.aieng.global.infra.fastapi.constants.FastApiEndpoint;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.*;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FastAPI 호출 전용 게이트웨이
+ * - 하나의 커넥션 풀을 공유 (keep-alive 재사용, TLS 환경에서는 HTTP/2 협상)
+ * - 엔드포인트별 connect/read 타임아웃과 동시 요청 수 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FastApiClient {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private final FastApiProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Map<FastApiEndpoint, OkHttpClient> clients = new EnumMap<>(FastApiEndpoint.class);
+    private final Map<FastApiEndpoint, Semaphore> permits = new EnumMap<>(FastApiEndpoint.class);
+    private OkHttpClient baseClient;
+
+    @PostConstruct
+    public void init() {
+        baseClient = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(
+                        properties.getMaxIdleConnections(),
+                        properties.getKeepAlive().toMillis(),
+                        TimeUnit.MILLISECONDS))
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .build();
+
+        // newBuilder()로 만든 클라이언트는 커넥션 풀과 디스패처를 공유함
+        for (FastApiEndpoint endpoint : FastApiEndpoint.values()) {
+            FastApiProperties.Endpoint config = properties.getEndpoint(endpoint);
+            clients.put(endpoint, baseClient.newBuilder()
+                    .connectTimeout(config.getConnectTimeout())
+                    .readTimeout(config.getReadTimeout())
+                    .writeTimeout(config.getReadTimeout())
+                    .build());
+            permits.put(endpoint, new Semaphore(config.getMaxConcurrency(), true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        baseClient.dispatcher().executorService().shutdown();
+        baseClient.connectionPool().evictAll();
+    }
+
+    // JSON POST 요청 (응답 본문 반환)
+    public String postJson(FastApiEndpoint endpoint, Object body) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            log.error("❌ FastAPI 요청 직렬화 실패: endpoint={}", endpoint, e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        Request request = new Request.Builder()
+                .url(url(endpoint, Map.of()))
+                .post(RequestBody.create(payload, JSON))
+                .build();
+        return execute(endpoint, request);
+    }
+
+    // multipart/form-data POST 요청 (파일 1개 + 쿼리 파라미터)
+    public String postMultipart(FastApiEndpoint endpoint, Map<String, String> queryParams,
+                                String partName, String filename, RequestBody part) {
+        validateUploadSize(endpoint, part);
+
+        MultipartBody body = new MultipartBody.Builder()
+                .setType(MultipartBody.FORM)
+                .addFormDataPart(partName, filename, part)
+                .build();
+
+        Request request = new Request.Builder()
+                .url(url(endpoint, queryParams))
+                .post(body)
+                .build();
+        return execute(endpoint, request);
+    }
+
+    // 업로드 크기 제한 (세마포어를 잡기 전에 확인)
+    private void validateUploadSize(FastApiEndpoint endpoint, RequestBody part) {
+        DataSize max = properties.getEndpoint(endpoint).getMaxUploadSize();
+        long length;
+        try {
+            length = part.contentLength();
+        } catch (IOException e) {
+            length = -1;
+        }
+        if (max != null && length > max.toBytes()) {
+            log.warn("⚠️ FastAPI 업로드 크기 초과: endpoint={}, size={}, max={}", endpoint, length, max);
+            throw new CustomException(ErrorCode.PAYLOAD_TOO_LARGE);
+        }
+    }
+
+    private HttpUrl url(FastApiEndpoint endpoint, Map<String, String> queryParams) {
+        HttpUrl.Builder builder = HttpUrl.get(properties.getBaseUrl() + endpoint.getPath()).newBuilder();
+        queryParams.forEach(builder::addQueryParameter);
+        return builder.build();
+    }
+
+    private String execute(FastApiEndpoint endpoint, Request request) {
+        Semaphore semaphore = permits.get(endpoint);
+        acquire(endpoint, semaphore);
+
+        try (Response response = clients.get(endpoint).newCall(request).execute()) {
+            ResponseBody responseBody = response.body();
+            String content = responseBody != null ? responseBody.string() : null;
+
+            if (!response.isSuccessful()) {
+                log.error("❌ FastAPI 응답 실패: endpoint={}, status={}, body={}", endpoint, response.code(), content);
+                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+            }
+            return content;
+        } catch (IOException e) {
+            log.error("❌ FastAPI 호출 실패: endpoint={}", endpoint, e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private void acquire(FastApiEndpoint endpoint, Semaphore semaphore) {
+        try {
+            if (!semaphore.tryAcquire(properties.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("🚦 FastAPI 동시 요청 한도 초과: endpoint={}", endpoint);
+                throw new CustomException(ErrorCode.EXTERNAL_SERVICE_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ssafy.aieng.global.infra.fastapi.client;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.IOException;
+
+/**
+ * 업로드 파일을 임시 파일로 복사하지 않고 그대로 전달하는 요청 본문
+ * - Okio 세그먼트(8KB) 단위로 읽어서 바로 씀 (파일 전체를 메모리에 올리지 않음)
+ * - 재시도 시 InputStreamSource에서 스트림을 다시 열어 처음부터 전송
+ */
+public class InputStreamRequestBody extends RequestBody {
+
+    private final InputStreamSource source;
+    private final MediaType contentType;
+    private final long contentLength;
+
+    public InputStreamRequestBody(InputStreamSource source, MediaType contentType, long contentLength) {
+        this.source = source;
+        this.contentType = contentType;
+        this.contentLength = contentLength;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        try (Source in = Okio.source(source.getInputStream())) {
+            sink.writeAll(in);
+        }
+    }
+}
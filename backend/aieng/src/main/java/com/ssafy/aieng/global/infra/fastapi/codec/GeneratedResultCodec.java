@@ -0,0 +1,125 @@
+package com.ssafy.aieng.global.infra.fastapi.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.ssafy.aieng.domain.learning.dto.response.GeneratedContentResult;
+import com.ssafy.aieng.domain.song.dto.response.GeneratedSongResult;
+import com.ssafy.aieng.global.error.ErrorCode;
+import com.ssafy.aieng.global.error.exception.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * FastAPI 생성 결과(단어 콘텐츠, 동요) Redis 값 코덱
+ * - 리더는 시작 시 한 번만 만들어 재사용 (ObjectReader는 불변, 스레드 안전)
+ * - 문자열로 변환하지 않고 Redis 값 바이트를 바로 해석
+ * - 값 앞의 버전 접두사로 형식 구분 (FastAPI app/utils/result_codec.py와 같은 형식)
+ *   - 접두사 없음 / "v1:" : JSON (이전 형식, 서버가 직접 쓰는 재사용 풀 값)
+ *   - "v2:" : CBOR (FastAPI 기본 형식, JSON보다 작고 한글을 이스케이프하지 않음)
+ */
+@Slf4j
+@Component
+public class GeneratedResultCodec {
+
+    private static final byte[] JSON_PREFIX = "v1:".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CBOR_PREFIX = "v2:".getBytes(StandardCharsets.US_ASCII);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectReader contentJsonReader;
+    private final ObjectReader contentCborReader;
+    private final ObjectReader songJsonReader;
+    private final ObjectReader songCborReader;
+    private final ObjectWriter jsonWriter;
+
+    public GeneratedResultCodec(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        // JSON과 같은 설정으로 CBOR 해석
+        ObjectMapper cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.contentJsonReader = objectMapper.readerFor(GeneratedContentResult.class);
+        this.contentCborReader = cborMapper.readerFor(GeneratedContentResult.class);
+        this.songJsonReader = objectMapper.readerFor(GeneratedSongResult.class);
+        this.songCborReader = cborMapper.readerFor(GeneratedSongResult.class);
+        this.jsonWriter = objectMapper.writer();
+    }
+
+    // 단어 콘텐츠 결과 조회 (없으면 null)
+    public GeneratedContentResult readContent(String key) {
+        byte[] raw = get(key);
+        return raw != null ? decodeContent(raw) : null;
+    }
+
+    // 동요 결과 조회 (없으면 null)
+    public GeneratedSongResult readSong(String key) {
+        byte[] raw = get(key);
+        return raw != null ? decodeSong(raw) : null;
+    }
+
+    // 결과 존재 여부 (값은 읽지 않음)
+    public boolean exists(String key) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+    }
+
+    // 서버에서 보관하던 JSON 문자열 해석 (재사용 풀 등)
+    public GeneratedContentResult decodeContent(String json) {
+        return decodeContent(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    GeneratedContentResult decodeContent(byte[] raw) {
+        return decode(raw, contentJsonReader, contentCborReader);
+    }
+
+    GeneratedSongResult decodeSong(byte[] raw) {
+        return decode(raw, songJsonReader, songCborReader);
+    }
+
+    public String encodeJson(Object result) {
+        try {
+            return jsonWriter.writeValueAsString(result);
+        } catch (IOException e) {
+            log.error("❌ 생성 결과 직렬화 실패: type={}", result.getClass().getSimpleName(), e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // 문자열 변환 없이 바이트 그대로 조회
+    private byte[] get(String key) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        return stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+    }
+
+    private static <T> T decode(byte[] raw, ObjectReader jsonReader, ObjectReader cborReader) {
+        try {
+            if (startsWith(raw, CBOR_PREFIX)) {
+                return cborReader.readValue(raw, CBOR_PREFIX.length, raw.length - CBOR_PREFIX.length);
+            }
+            if (startsWith(raw, JSON_PREFIX)) {
+                return jsonReader.readValue(raw, JSON_PREFIX.length, raw.length - JSON_PREFIX.length);
+            }
+            return jsonReader.readValue(raw);
+        } catch (IOException e) {
+            log.error("❌ 생성 결과 파싱 실패: length={}", raw.length, e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static boolean startsWith(byte[] raw, byte[] prefix) {
+        if (raw.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (raw[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
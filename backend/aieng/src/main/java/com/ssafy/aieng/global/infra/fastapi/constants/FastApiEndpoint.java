@@ -0,0 +1,15 @@
+package com.ssafy.aieng.global.infra.fastapi.constants;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum FastApiEndpoint {
+
+    SONGS("/songs/"),                          // 동요 생성
+    WORDS("/words/"),                          // 단어 콘텐츠(문장, 이미지, TTS) 생성
+    PRONUNCIATION("/pronunciation/evaluate");  // 발음 평가
+
+    private final String path;
+}
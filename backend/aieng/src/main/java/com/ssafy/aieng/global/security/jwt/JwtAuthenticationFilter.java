@@ -47,11 +47,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     log.debug("[JWT Filter] 테스트 토큰 인증 완료: {}", token);
                 } else {
-                    // 실제 토큰 검증
+                    // 실제 토큰 검증 (검증 1회로 userId까지 확인)
                     TokenValidationResult validationResult = jwtTokenProvider.validateToken(token);
 
                     if (validationResult.isValid()) {
-                        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+                        Authentication authentication = jwtTokenProvider.getAuthentication(validationResult.getUserId());
                         SecurityContextHolder.getContext().setAuthentication(authentication);
                         log.debug("[JWT Filter] 유효한 토큰 인증 완료");
                     } else {
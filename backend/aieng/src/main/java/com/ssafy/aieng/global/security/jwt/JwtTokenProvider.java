@@ -1,13 +1,21 @@
 package com.ssafy.aieng.global.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.ssafy.aieng.domain.auth.dto.TokenError;
 import com.ssafy.aieng.domain.auth.dto.TokenValidationResult;
 import com.ssafy.aieng.global.security.UserPrincipal;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -16,8 +24,14 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -28,22 +42,51 @@ public class JwtTokenProvider {
     private final long accessTokenValidTime = 24 * 60 * 60 * 1000L; // 24시간
     private final long refreshTokenValidTime = 14 * 24 * 60 * 60 * 1000L; // 14일
 
-    // SecretKey 생성
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // 검증 결과 캐시 (토큰 해시 -> 검증 결과), 토큰 만료 시각과 최대 보관 시간 중 먼저 오는 시점에 제거
+    private static final long VERIFIED_CACHE_MAX_SIZE = 10_000;
+    private static final long VERIFIED_CACHE_MAX_AGE_MS = 5 * 60 * 1000L;
+
+    private final MeterRegistry meterRegistry;
+
+    // 서버 시작 시 한 번만 생성 (요청마다 키 디코딩/파서 생성하지 않음)
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_CACHE_MAX_SIZE)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long remainingMs = Math.min(value.expiresAt - System.currentTimeMillis(), VERIFIED_CACHE_MAX_AGE_MS);
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtVerification");
     }
 
     // 기존 토큰 생성 메소드 유지
     public String createToken(String userId, long validityTime) {
-        Date now = new Date();
-
-        return Jwts.builder()
-                .subject(userId)
-                .issuedAt(now)
-                .expiration(new Date(now.getTime() + validityTime))
-                .signWith(getSigningKey())
-                .compact();
+        return tokenBuilder(userId, validityTime).compact();
     }
 
     // Refresh Token 생성
@@ -51,9 +94,21 @@ public class JwtTokenProvider {
         return createToken(userId, accessTokenValidTime);
     }
 
-    // Refresh Token 생성
+    // Refresh Token 생성 (jti: 같은 초에 재발급해도 이전 토큰과 다른 값이 되도록, 회전 시 재사용 차단)
     public String createRefreshToken(String userId) {
-        return createToken(userId, refreshTokenValidTime);
+        return tokenBuilder(userId, refreshTokenValidTime)
+                .id(UUID.randomUUID().toString())
+                .compact();
+    }
+
+    private JwtBuilder tokenBuilder(String userId, long validityTime) {
+        Date now = new Date();
+
+        return Jwts.builder()
+                .subject(userId)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + validityTime))
+                .signWith(signingKey);
     }
 
     // 토큰에서 회원 정보 추출
@@ -63,18 +118,24 @@ public class JwtTokenProvider {
 
     // Claims 추출
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    // 토큰 유효성 + 만료일자 확인
+    // 토큰 유효성 + 만료일자 확인 (유효하면 userId 포함, 최근 검증한 토큰은 서명 검증 생략)
     public TokenValidationResult validateToken(String token) {
+        String cacheKey = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return new TokenValidationResult(true, null, cached.userId);
+        }
+
         try {
             Claims claims = extractAllClaims(token);
-            return new TokenValidationResult(true, null);
+            Integer userId = Integer.parseInt(claims.getSubject());
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(cacheKey, new VerifiedToken(userId, claims.getExpiration().getTime()));
+            }
+            return new TokenValidationResult(true, null, userId);
         } catch (ExpiredJwtException e) {
             return new TokenValidationResult(false, TokenError.EXPIRED_TOKEN);
         } catch (Exception e) {
@@ -84,8 +145,11 @@ public class JwtTokenProvider {
 
     // Spring Security 인증 객체 생성
     public Authentication getAuthentication(String token) {
-        Integer userId = getUserId(token);
+        return getAuthentication(getUserId(token));
+    }
 
+    // 이미 검증된 userId로 인증 객체 생성 (토큰 재파싱 없음)
+    public Authentication getAuthentication(Integer userId) {
         UserPrincipal userPrincipal = UserPrincipal.builder()
                 .id(userId)
                 .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")))
@@ -96,4 +160,25 @@ public class JwtTokenProvider {
                 "",
                 userPrincipal.getAuthorities());
     }
+
+    // 캐시 키 (토큰 원문을 메모리에 보관하지 않도록 SHA-256)
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class VerifiedToken {
+
+        private final Integer userId;
+        private final long expiresAt;
+
+        private VerifiedToken(Integer userId, long expiresAt) {
+            this.userId = userId;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
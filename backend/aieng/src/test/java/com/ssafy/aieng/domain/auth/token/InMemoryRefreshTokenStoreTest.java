@@ -0,0 +1,11 @@
+package com.ssafy.aieng.domain.auth.token;
+
+class InMemoryRefreshTokenStoreTest extends RefreshTokenStoreContractTest {
+
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+
+    @Override
+    protected RefreshTokenStore store() {
+        return store;
+    }
+}
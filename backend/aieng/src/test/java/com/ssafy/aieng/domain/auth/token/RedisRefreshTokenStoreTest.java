@@ -0,0 +1,105 @@
+package com.ssafy.aieng.domain.auth.token;
+
+import com.ssafy.aieng.support.RedisTestSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+class RedisRefreshTokenStoreTest extends RefreshTokenStoreContractTest {
+
+    @Container
+    static GenericContainer<?> redis = RedisTestSupport.redisContainer();
+
+    // 서버 두 대를 흉내 내기 위해 연결을 따로 만든 저장소 두 개
+    private static LettuceConnectionFactory factoryA;
+    private static LettuceConnectionFactory factoryB;
+    private static RedisRefreshTokenStore storeA;
+    private static RedisRefreshTokenStore storeB;
+
+    @BeforeAll
+    static void connect() {
+        factoryA = RedisTestSupport.connectionFactory(redis);
+        factoryB = RedisTestSupport.connectionFactory(redis);
+        storeA = new RedisRefreshTokenStore(RedisTestSupport.template(factoryA));
+        storeB = new RedisRefreshTokenStore(RedisTestSupport.template(factoryB));
+    }
+
+    @AfterAll
+    static void disconnect() {
+        factoryA.destroy();
+        factoryB.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        StringRedisTemplate template = RedisTestSupport.template(factoryA);
+        template.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Override
+    protected RefreshTokenStore store() {
+        return storeA;
+    }
+
+    @Test
+    void instancesSharingRedisSeeEachOthersRotation() {
+        storeA.save("1", "token-a", TTL);
+
+        assertThat(storeB.get("1")).isEqualTo("token-a");
+        assertThat(storeB.rotate("1", "token-a", "token-b", TTL)).isTrue();
+
+        // 다른 서버에서 이미 교체됨 → 예전 토큰으로는 재발급 불가
+        assertThat(storeA.rotate("1", "token-a", "token-c", TTL)).isFalse();
+        assertThat(storeA.get("1")).isEqualTo("token-b");
+    }
+
+    @Test
+    void concurrentRotationsAcrossInstancesHaveSingleWinner() throws Exception {
+        storeA.save("1", "token-a", TTL);
+
+        int attempts = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                RedisRefreshTokenStore store = (i % 2 == 0) ? storeA : storeB;
+                String newToken = "token-" + i;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return store.rotate("1", "token-a", newToken, TTL);
+                }));
+            }
+            start.countDown();
+
+            int won = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    won++;
+                }
+            }
+            assertThat(won).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ssafy.aieng.domain.auth.token;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리프레시 토큰 저장소 공통 동작 (Redis / 메모리 구현이 같은 규칙을 따르는지 확인)
+ */
+abstract class RefreshTokenStoreContractTest {
+
+    protected static final Duration TTL = Duration.ofMinutes(10);
+    protected static final Duration SHORT_TTL = Duration.ofSeconds(1);
+
+    protected abstract RefreshTokenStore store();
+
+    @Test
+    void savedTokenCanBeReadAndDeleted() {
+        store().save("1", "token-a", TTL);
+        assertThat(store().get("1")).isEqualTo("token-a");
+
+        store().delete("1");
+        assertThat(store().get("1")).isNull();
+    }
+
+    @Test
+    void rotateSucceedsOnlyOnceWithTheSameToken() {
+        store().save("1", "token-a", TTL);
+
+        assertThat(store().rotate("1", "token-a", "token-b", TTL)).isTrue();
+        // 이미 교체된 토큰으로 다시 재발급 시도 → 실패
+        assertThat(store().rotate("1", "token-a", "token-c", TTL)).isFalse();
+        assertThat(store().get("1")).isEqualTo("token-b");
+    }
+
+    @Test
+    void rotateFailsWhenNoTokenIsStored() {
+        assertThat(store().rotate("1", "token-a", "token-b", TTL)).isFalse();
+        assertThat(store().get("1")).isNull();
+    }
+
+    @Test
+    void tokenExpiresAfterTtl() throws InterruptedException {
+        store().save("1", "token-a", SHORT_TTL);
+        Thread.sleep(SHORT_TTL.toMillis() + 500);
+
+        assertThat(store().get("1")).isNull();
+        assertThat(store().rotate("1", "token-a", "token-b", TTL)).isFalse();
+    }
+
+    @Test
+    void rotatedTokenGetsNewTtl() throws InterruptedException {
+        store().save("1", "token-a", SHORT_TTL);
+        assertThat(store().rotate("1", "token-a", "token-b", TTL)).isTrue();
+        Thread.sleep(SHORT_TTL.toMillis() + 500);
+
+        assertThat(store().get("1")).isEqualTo("token-b");
+    }
+}
@@ -0,0 +1,71 @@
+package com.ssafy.aieng.domain.learning.service;
+
+import com.ssafy.aieng.domain.learning.dto.request.GenerateContentRequest;
+import com.ssafy.aieng.domain.learning.dto.response.GeneratedContentResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionGenerationStreamServiceTest {
+
+    private static final Integer USER_ID = 1;
+    private static final Integer CHILD_ID = 2;
+    private static final Integer SESSION_ID = 3;
+
+    private final LearningService learningService = mock(LearningService.class);
+    private final WordGenerationService wordGenerationService = mock(WordGenerationService.class);
+
+    private SessionGenerationStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SessionGenerationStreamService(learningService, wordGenerationService);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void savesOnDedicatedThreadEvenWhenListenerCompletesLastWord() throws Exception {
+        GenerateContentRequest apple = GenerateContentRequest.builder().sessionId(SESSION_ID).wordEn("apple").build();
+        GenerateContentRequest banana = GenerateContentRequest.builder().sessionId(SESSION_ID).wordEn("banana").build();
+        CompletableFuture<GeneratedContentResult> appleResult = new CompletableFuture<>();
+        CompletableFuture<GeneratedContentResult> bananaResult = new CompletableFuture<>();
+        when(learningService.prepareSessionGenerationRequests(USER_ID, CHILD_ID, SESSION_ID))
+                .thenReturn(List.of(apple, banana));
+        when(wordGenerationService.fetchContent(apple)).thenReturn(appleResult);
+        when(wordGenerationService.fetchContent(banana)).thenReturn(bananaResult);
+
+        AtomicReference<String> saveThread = new AtomicReference<>();
+        when(learningService.saveGeneratedContents(eq(SESSION_ID), anyMap())).thenAnswer(invocation -> {
+            saveThread.set(Thread.currentThread().getName());
+            return 2;
+        });
+
+        service.generateAll(USER_ID, CHILD_ID, SESSION_ID);
+        appleResult.complete(new GeneratedContentResult());
+
+        // Redis 알림 수신 스레드가 마지막 결과를 완료하는 상황
+        Thread listener = new Thread(() -> bananaResult.complete(new GeneratedContentResult()), "redis-listener");
+        listener.start();
+        listener.join();
+
+        verify(learningService, timeout(5_000)).saveGeneratedContents(eq(SESSION_ID), anyMap());
+        assertThat(saveThread.get()).startsWith("session-generation-save-");
+    }
+}
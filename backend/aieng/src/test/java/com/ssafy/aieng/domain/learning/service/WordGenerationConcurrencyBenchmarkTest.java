@@ -0,0 +1,211 @@
+package com.ssafy.aieng.domain.learning.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.aieng.domain.learning.dto.request.GenerateContentRequest;
+import com.ssafy.aieng.domain.learning.dto.response.GeneratedContentResult;
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import com.ssafy.aieng.global.infra.fastapi.codec.GeneratedResultCodec;
+import com.ssafy.aieng.support.RedisTestSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 노드 1대의 동시 단어 생성 수: 변경 전(요청 스레드 + DB 커넥션을 잡고 polling) vs WordGenerationService 비교
+ * - DB 커넥션 풀은 운영 설정(maximum-pool-size: 3)과 같은 크기의 세마포어로 대신함
+ * - FastAPI는 지연 후 Redis에 결과 저장 + 완료 알림 발행 (실제 Redis Pub/Sub 사용)
+ */
+@Testcontainers
+class WordGenerationConcurrencyBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(WordGenerationConcurrencyBenchmarkTest.class);
+
+    private static final int DB_POOL_SIZE = 3;
+    private static final int CONCURRENT_REQUESTS = 24;
+    private static final long FASTAPI_LATENCY_MS = 400;
+    private static final long DB_WORK_MS = 5;
+    private static final long POLL_INTERVAL_MS = 500;
+    private static final int POLL_RETRY = 10;
+    private static final Integer USER_ID = 1;
+    private static final Integer CHILD_ID = 2;
+    private static final Integer SESSION_ID = 3;
+
+    @Container
+    static GenericContainer<?> redis = RedisTestSupport.redisContainer();
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate template;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Semaphore dbConnections = new Semaphore(DB_POOL_SIZE, true);
+    private final AtomicInteger fastApiInFlight = new AtomicInteger();
+    private final AtomicInteger fastApiPeak = new AtomicInteger();
+
+    private RedisMessageListenerContainer listenerContainer;
+    private WordGenerationService service;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = RedisTestSupport.connectionFactory(redis);
+        template = RedisTestSupport.template(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        template.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        LearningService learningService = mock(LearningService.class);
+        when(learningService.prepareGenerationRequest(anyInt(), anyInt(), anyInt(), anyString()))
+                .thenAnswer(inv -> withDbConnection(() -> request(inv.getArgument(3))));
+        doAnswer(inv -> {
+            callFastApi(inv.getArgument(0));
+            return null;
+        }).when(learningService).sendFastApiRequest(any());
+        when(learningService.saveGeneratedContent(anyInt(), anyString(), any()))
+                .thenAnswer(inv -> withDbConnection(() -> inv.getArgument(2)));
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        service = new WordGenerationService(learningService, mock(GeneratedContentPool.class), template,
+                new GeneratedResultCodec(template, objectMapper), listenerContainer);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        service.shutdown();
+        listenerContainer.destroy();
+    }
+
+    @Test
+    void handlesMoreConcurrentGenerationsThanBlockingPolling() throws Exception {
+        // 변경 전: 요청 스레드마다 트랜잭션(DB 커넥션)을 잡은 채 FastAPI 호출 + Thread.sleep polling
+        ExecutorService servletThreads = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        long blockingStart = System.nanoTime();
+        try {
+            List<CompletableFuture<GeneratedContentResult>> blocking = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                String word = "before" + i;
+                blocking.add(CompletableFuture.supplyAsync(() -> sendRequestAndSaveBlocking(word), servletThreads));
+            }
+            CompletableFuture.allOf(blocking.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        } finally {
+            servletThreads.shutdownNow();
+        }
+        long blockingElapsed = System.nanoTime() - blockingStart;
+        int blockingPeak = fastApiPeak.getAndSet(0);
+
+        // 변경 후: 요청 스레드는 핸들만 받고 반환, 완료는 Pub/Sub 알림
+        List<CompletableFuture<GeneratedContentResult>> handles = new ArrayList<>();
+        long asyncStart = System.nanoTime();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            handles.add(service.generate(USER_ID, CHILD_ID, SESSION_ID, "after" + i));
+        }
+        long requestThreadNanos = System.nanoTime() - asyncStart;
+        CompletableFuture.allOf(handles.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        long asyncElapsed = System.nanoTime() - asyncStart;
+        int asyncPeak = fastApiPeak.get();
+
+        log.info("📊 단어 생성 {}건 (FastAPI {}ms, DB 커넥션 {}개): 변경 전 동시 생성 최대 {}건 / {}ms, "
+                        + "변경 후 동시 생성 최대 {}건 / {}ms (요청 스레드 점유 합계 {}ms)",
+                CONCURRENT_REQUESTS, FASTAPI_LATENCY_MS, DB_POOL_SIZE,
+                blockingPeak, blockingElapsed / 1_000_000, asyncPeak, asyncElapsed / 1_000_000,
+                requestThreadNanos / 1_000_000);
+
+        assertThat(blockingPeak).isLessThanOrEqualTo(DB_POOL_SIZE);
+        assertThat(asyncPeak).isGreaterThan(DB_POOL_SIZE);
+        assertThat(asyncElapsed).isLessThan(blockingElapsed);
+        assertThat(handles).allSatisfy(handle -> assertThat(handle).isCompleted());
+    }
+
+    // 변경 전 LearningService.sendRequestAndSave 흐름 (트랜잭션 동안 커넥션 점유)
+    private GeneratedContentResult sendRequestAndSaveBlocking(String word) {
+        try {
+            return withDbConnection(() -> {
+                callFastApi(request(word));
+                String key = RedisKeyUtil.getGeneratedContentKey(USER_ID, SESSION_ID, word);
+                for (int retry = 0; retry < POLL_RETRY; retry++) {
+                    String json = template.opsForValue().get(key);
+                    if (json != null) {
+                        return objectMapper.readValue(json, GeneratedContentResult.class);
+                    }
+                    Thread.sleep(POLL_INTERVAL_MS);
+                }
+                throw new IllegalStateException("결과 미도착: " + key);
+            });
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // FastAPI: 생성 후 결과 저장 + 완료 알림 (생성이 끝나야 응답)
+    private void callFastApi(GenerateContentRequest request) throws InterruptedException {
+        fastApiPeak.accumulateAndGet(fastApiInFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(FASTAPI_LATENCY_MS);
+            String key = RedisKeyUtil.getGeneratedContentKey(request.getUserId(), request.getSessionId(), request.getWordEn());
+            template.opsForValue().set(key, "{\"word\":\"" + request.getWordEn() + "\",\"sentence\":\"I see it.\"}");
+            template.convertAndSend(RedisKeyUtil.GENERATED_CONTENT_CHANNEL, key);
+        } finally {
+            fastApiInFlight.decrementAndGet();
+        }
+    }
+
+    private <T> T withDbConnection(DbWork<T> work) throws Exception {
+        dbConnections.acquire();
+        try {
+            Thread.sleep(DB_WORK_MS);
+            return work.run();
+        } finally {
+            dbConnections.release();
+        }
+    }
+
+    private static GenerateContentRequest request(String word) {
+        return GenerateContentRequest.builder()
+                .userId(USER_ID).sessionId(SESSION_ID).theme("과일").wordEn(word).build();
+    }
+
+    @FunctionalInterface
+    private interface DbWork<T> {
+        T run() throws Exception;
+    }
+}
@@ -0,0 +1,203 @@
+package com.ssafy.aieng.domain.learning.service;
+
+import com.ssafy.aieng.domain.learning.dto.request.GenerateContentRequest;
+import com.ssafy.aieng.domain.learning.dto.response.GeneratedContentResult;
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import com.ssafy.aieng.global.error.ErrorCode;
+import com.ssafy.aieng.global.error.exception.CustomException;
+import com.ssafy.aieng.global.infra.fastapi.codec.GeneratedResultCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WordGenerationServiceTest {
+
+    private static final Integer USER_ID = 1;
+    private static final Integer CHILD_ID = 2;
+    private static final Integer SESSION_ID = 3;
+    private static final String WORD = "apple";
+    private static final String KEY = RedisKeyUtil.getGeneratedContentKey(USER_ID, SESSION_ID, WORD);
+
+    private final LearningService learningService = mock(LearningService.class);
+    private final GeneratedContentPool generatedContentPool = mock(GeneratedContentPool.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final GeneratedResultCodec generatedResultCodec = mock(GeneratedResultCodec.class);
+    private final RedisMessageListenerContainer listenerContainer = mock(RedisMessageListenerContainer.class);
+
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+    // Redis에 저장된 생성 결과 (null이면 아직 미도착)
+    private final AtomicReference<GeneratedContentResult> stored = new AtomicReference<>();
+
+    private WordGenerationService service;
+
+    @BeforeEach
+    void setUp() {
+        GenerateContentRequest request = GenerateContentRequest.builder()
+                .userId(USER_ID).sessionId(SESSION_ID).theme("과일").wordEn(WORD).build();
+        when(learningService.prepareGenerationRequest(USER_ID, CHILD_ID, SESSION_ID, WORD)).thenReturn(request);
+        when(learningService.saveGeneratedContent(eq(SESSION_ID), eq(WORD), any()))
+                .thenAnswer(inv -> inv.getArgument(2));
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(generatedResultCodec.readContent(KEY)).thenAnswer(inv -> stored.get());
+
+        service = new WordGenerationService(learningService, generatedContentPool, stringRedisTemplate,
+                generatedResultCodec, listenerContainer);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void completesWhenGeneratedNotificationArrives() throws Exception {
+        CompletableFuture<GeneratedContentResult> future = service.generate(USER_ID, CHILD_ID, SESSION_ID, WORD);
+
+        // FastAPI 요청 후 결과가 아직 없으면 대기 상태로 남음 (polling 없음)
+        verify(learningService, timeout(1_000)).sendFastApiRequest(any());
+        verify(generatedResultCodec, timeout(1_000)).readContent(KEY);
+        assertThat(future).isNotDone();
+
+        // 결과 저장 + 알림 발행
+        GeneratedContentResult result = new GeneratedContentResult();
+        stored.set(result);
+        service.onMessage(notification(KEY), null);
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        verify(learningService).saveGeneratedContent(SESSION_ID, WORD, result);
+    }
+
+    @Test
+    void ignoresNotificationsForOtherKeys() throws Exception {
+        CompletableFuture<GeneratedContentResult> future = service.generate(USER_ID, CHILD_ID, SESSION_ID, WORD);
+        verify(generatedResultCodec, timeout(1_000)).readContent(KEY);
+
+        service.onMessage(notification(RedisKeyUtil.getGeneratedContentKey(USER_ID, SESSION_ID, "banana")), null);
+        Thread.sleep(100);
+
+        assertThat(future).isNotDone();
+    }
+
+    @Test
+    void sameKeyRequestsShareOneGeneration() throws Exception {
+        // FastAPI 요청이 끝나지 않은 상태에서 같은 단어 재요청
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(learningService).sendFastApiRequest(any());
+
+        CompletableFuture<GeneratedContentResult> first = service.generate(USER_ID, CHILD_ID, SESSION_ID, WORD);
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<GeneratedContentResult> second = service.generate(USER_ID, CHILD_ID, SESSION_ID, WORD);
+
+        assertThat(second).isSameAs(first);
+
+        GeneratedContentResult result = new GeneratedContentResult();
+        stored.set(result);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        verify(learningService, times(1)).sendFastApiRequest(any());
+        verify(learningService, times(1)).saveGeneratedContent(SESSION_ID, WORD, result);
+        // 검증은 요청마다 수행
+        verify(learningService, times(2)).prepareGenerationRequest(USER_ID, CHILD_ID, SESSION_ID, WORD);
+    }
+
+    @Test
+    void waitsForOtherServerWhenLeaseIsTaken() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        CompletableFuture<GeneratedContentResult> future = service.generate(USER_ID, CHILD_ID, SESSION_ID, WORD);
+        verify(generatedResultCodec, timeout(1_000)).readContent(KEY);
+        assertThat(future).isNotDone();
+
+        // 다른 서버가 생성 후 알림 발행
+        GeneratedContentResult result = new GeneratedContentResult();
+        stored.set(result);
+        service.onMessage(notification(KEY), null);
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        verify(learningService, never()).sendFastApiRequest(any());
+    }
+
+    @Test
+    void newRequestAfterCompletionStartsNewGeneration() throws Exception {
+        GeneratedContentResult result = new GeneratedContentResult();
+        stored.set(result);
+
+        CompletableFuture<GeneratedContentResult> first = service.generate(USER_ID, CHILD_ID, SESSION_ID, WORD);
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        // 완료 콜백(진행 중 목록에서 제거)이 완료 스레드에서 끝날 때까지 대기
+        Thread.sleep(100);
+
+        CompletableFuture<GeneratedContentResult> second = service.generate(USER_ID, CHILD_ID, SESSION_ID, WORD);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        verify(learningService, times(2)).sendFastApiRequest(any());
+    }
+
+    @Test
+    void rejectsWithBusyWhenWorkerQueueIsFull() {
+        when(learningService.prepareGenerationRequest(eq(USER_ID), eq(CHILD_ID), eq(SESSION_ID), anyString()))
+                .thenAnswer(inv -> GenerateContentRequest.builder()
+                        .userId(USER_ID).sessionId(SESSION_ID).theme("과일").wordEn(inv.getArgument(3)).build());
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(learningService).sendFastApiRequest(any());
+
+        try {
+            // 작업 스레드 8개 + 대기열 200개를 채운 뒤의 요청
+            for (int i = 0; i < 8 + 200; i++) {
+                service.generate(USER_ID, CHILD_ID, SESSION_ID, "word" + i);
+            }
+            CompletableFuture<GeneratedContentResult> rejected = service.generate(USER_ID, CHILD_ID, SESSION_ID, "overflow");
+
+            assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOfSatisfying(CustomException.class,
+                            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EXTERNAL_SERVICE_BUSY));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static DefaultMessage notification(String key) {
+        return new DefaultMessage(RedisKeyUtil.GENERATED_CONTENT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                key.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,192 @@
+package com.ssafy.aieng.domain.quiz.service;
+
+import com.ssafy.aieng.domain.child.entity.Child;
+import com.ssafy.aieng.domain.quiz.dto.response.QuizResponse;
+import com.ssafy.aieng.domain.quiz.entity.Quiz;
+import com.ssafy.aieng.domain.quiz.entity.QuizQuestion;
+import com.ssafy.aieng.domain.session.entity.Session;
+import com.ssafy.aieng.domain.theme.entity.Theme;
+import com.ssafy.aieng.domain.user.entity.User;
+import com.ssafy.aieng.domain.user.enums.Gender;
+import com.ssafy.aieng.domain.user.enums.Provider;
+import com.ssafy.aieng.domain.word.entity.Word;
+import com.ssafy.aieng.domain.word.service.WordCatalog;
+import com.ssafy.aieng.global.common.CustomAuthentication;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 퀴즈 조회 쿼리 수 검증
+ * - 문항 수와 관계없이 단어 조회는 1번
+ * - 두 번째 조회는 QuizViewCache에서 응답 (단어 조회 없음)
+ */
+@Testcontainers
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuizService.class, QuizViewCache.class, QuizServiceQueryCountTest.Config.class})
+class QuizServiceQueryCountTest {
+
+    private static final int QUESTION_COUNT = 4;
+
+    @Container
+    @ServiceConnection
+    static MariaDBContainer<?> mariadb = new MariaDBContainer<>("mariadb:11.4");
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspector(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+
+    // 실행된 SQL 기록
+    static class SqlCapture implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql.toLowerCase(Locale.ROOT));
+            return sql;
+        }
+
+        long countFrom(String table) {
+            return statements.stream().filter(sql -> sql.contains(" from " + table + " ")).count();
+        }
+
+        void reset() {
+            statements.clear();
+        }
+    }
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @MockitoBean
+    private CustomAuthentication customAuthentication;
+
+    @MockitoBean
+    private WordCatalog wordCatalog;
+
+    @MockitoBean
+    private StringRedisTemplate stringRedisTemplate;
+
+    @MockitoBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private Integer userId;
+    private Integer childId;
+    private Integer sessionId;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().provider(Provider.KAKAO).providerId("kakao-1").nickname("tester").build();
+        entityManager.persist(user);
+        Child child = Child.builder().user(user).name("child").birthdate(LocalDate.of(2019, 1, 1)).gender(Gender.N).build();
+        entityManager.persist(child);
+        Theme theme = Theme.builder().themeEn("fruit").themeKo("과일").totalWords(8).build();
+        entityManager.persist(theme);
+        Session session = Session.of(child, theme);
+        entityManager.persist(session);
+
+        List<Word> words = new ArrayList<>();
+        for (int i = 0; i < QUESTION_COUNT * 2; i++) {
+            Word word = Word.builder().theme(theme).wordEn("word" + i).wordKo("단어" + i)
+                    .imgUrl("img" + i).ttsUrl("tts" + i).build();
+            entityManager.persist(word);
+            words.add(word);
+        }
+
+        Quiz quiz = Quiz.createQuiz(session);
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            Word answer = words.get(i);
+            quiz.getQuestions().add(QuizQuestion.create(quiz, answer.getId(), answer.getImgUrl(),
+                    answer.getId(), words.get(i + 1).getId(), words.get(i + 2).getId(), words.get(i + 3).getId(),
+                    1, "image_matching", "Which image matches the word?"));
+        }
+        entityManager.persist(quiz);
+        entityManager.flush();
+        entityManager.clear();
+
+        userId = user.getId();
+        childId = child.getId();
+        sessionId = session.getId();
+        when(customAuthentication.isOwner(any(), any())).thenReturn(true);
+    }
+
+    @Test
+    void rendersQuizWithSingleWordQueryThenServesFromCache() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // 1. 첫 조회: 문항 4개(단어 ID 20개)에 대해 단어 조회 1번
+        statistics.clear();
+        sqlCapture.reset();
+        QuizResponse first = quizService.getQuizBySessionId(userId, sessionId, childId);
+
+        assertThat(first.getQuestions()).hasSize(QUESTION_COUNT);
+        assertThat(first.getQuestions()).allSatisfy(q -> assertThat(q.getAnsWord()).isNotNull());
+        assertThat(sqlCapture.countFrom("word")).isEqualTo(1);
+        assertThat(statistics.getEntityStatistics(Word.class.getName()).getLoadCount())
+                .isEqualTo(QUESTION_COUNT + 3);
+
+        // 2. 두 번째 조회: 퀴즈 소유 확인만 하고 응답은 캐시에서 (문항/단어 조회 없음)
+        entityManager.clear();
+        statistics.clear();
+        sqlCapture.reset();
+        QuizResponse second = quizService.getQuizBySessionId(userId, sessionId, childId);
+
+        assertThat(second).isSameAs(first);
+        assertThat(sqlCapture.countFrom("word")).isZero();
+        assertThat(sqlCapture.countFrom("quiz_question")).isZero();
+        assertThat(statistics.getEntityStatistics(Word.class.getName()).getLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,61 @@
+package com.ssafy.aieng.domain.song.job;
+
+import com.ssafy.aieng.global.config.SongQueueProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemorySongJobQueueTest {
+
+    private final InMemorySongJobQueue queue = new InMemorySongJobQueue(new SongQueueProperties());
+
+    @Test
+    void claimIsGrantedOncePerSession() {
+        assertThat(queue.tryClaim(1)).isTrue();
+        assertThat(queue.tryClaim(1)).isFalse();
+        assertThat(queue.tryClaim(2)).isTrue();
+    }
+
+    @Test
+    void releasedClaimCanBeTakenAgain() {
+        assertThat(queue.tryClaim(1)).isTrue();
+        queue.releaseClaim(1);
+        assertThat(queue.tryClaim(1)).isTrue();
+    }
+
+    @Test
+    void concurrentClaimsHaveSingleWinner() throws Exception {
+        int threads = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                Callable<Boolean> task = () -> {
+                    start.await();
+                    return queue.tryClaim(7);
+                };
+                results.add(pool.submit(task));
+            }
+            start.countDown();
+
+            int won = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    won++;
+                }
+            }
+            assertThat(won).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.ssafy.aieng.domain.song.job;
+
+import com.ssafy.aieng.domain.song.entity.SongStatus;
+import com.ssafy.aieng.domain.song.service.SongStatusPublisher;
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import com.ssafy.aieng.global.config.SongQueueProperties;
+import com.ssafy.aieng.global.infra.fastapi.client.FastApiClient;
+import com.ssafy.aieng.global.infra.fastapi.codec.GeneratedResultCodec;
+import com.ssafy.aieng.global.infra.fastapi.constants.FastApiEndpoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SongGenerationWorkerTest {
+
+    private static final Integer USER_ID = 3;
+    private static final Integer SESSION_ID = 10;
+    private static final List<SongStatus> READY_FROM =
+            List.of(SongStatus.REQUESTED, SongStatus.IN_PROGRESS, SongStatus.READY);
+
+    private final InMemorySongJobQueue queue = spy(new InMemorySongJobQueue(new SongQueueProperties()));
+    private final FastApiClient fastApiClient = mock(FastApiClient.class);
+    private final SongStatusPublisher publisher = mock(SongStatusPublisher.class);
+    private final GeneratedResultCodec resultCodec = mock(GeneratedResultCodec.class);
+
+    private final SongGenerationWorker worker =
+            new SongGenerationWorker(queue, fastApiClient, publisher, new SongQueueProperties(), resultCodec);
+
+    @AfterEach
+    void tearDown() {
+        worker.stop();
+    }
+
+    @Test
+    void generatesWithConditionalTransitions() {
+        when(publisher.currentStatus(SESSION_ID)).thenReturn(SongStatus.REQUESTED);
+        when(publisher.publishIfCurrent(USER_ID, SESSION_ID, SongStatus.REQUESTED, SongStatus.IN_PROGRESS))
+                .thenReturn(true);
+
+        submit();
+
+        verify(queue, timeout(5_000)).ack(any());
+        verify(fastApiClient).postJson(eq(FastApiEndpoint.SONGS), any());
+        verify(publisher).publishIfCurrent(USER_ID, SESSION_ID, READY_FROM, SongStatus.READY);
+        // 무조건 덮어쓰는 상태 변경은 사용하지 않음 (FastAPI가 먼저 READY로, 사용자가 SAVED로 바꿀 수 있음)
+        verify(publisher, never()).publish(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void skipsGenerationWhenSongIsAlreadySaved() {
+        when(publisher.currentStatus(SESSION_ID)).thenReturn(SongStatus.SAVED);
+
+        submit();
+
+        verify(queue, timeout(5_000)).ack(any());
+        verify(fastApiClient, never()).postJson(any(), any());
+        verify(publisher, never()).publishIfCurrent(anyInt(), anyInt(), anyCollection(), any());
+    }
+
+    @Test
+    void skipsGenerationWhenResultAlreadyExists() {
+        // 응답 타임아웃 후 재시도: 상태는 IN_PROGRESS지만 결과는 이미 저장됨
+        when(publisher.currentStatus(SESSION_ID)).thenReturn(SongStatus.IN_PROGRESS);
+        when(resultCodec.exists(RedisKeyUtil.getGeneratedSongKey(USER_ID, SESSION_ID))).thenReturn(true);
+
+        submit();
+
+        verify(queue, timeout(5_000)).ack(any());
+        verify(fastApiClient, never()).postJson(any(), any());
+        verify(publisher).publishIfCurrent(USER_ID, SESSION_ID, READY_FROM, SongStatus.READY);
+    }
+
+    @Test
+    void skipsJobWhenStatusWasChangedByAnotherRequest() {
+        when(publisher.currentStatus(SESSION_ID)).thenReturn(SongStatus.FAILED);
+
+        submit();
+
+        verify(queue, timeout(5_000)).ack(any());
+        verify(fastApiClient, never()).postJson(any(), any());
+    }
+
+    @Test
+    void keepsClaimAfterGeneration() {
+        when(publisher.currentStatus(SESSION_ID)).thenReturn(SongStatus.REQUESTED);
+        when(publisher.publishIfCurrent(USER_ID, SESSION_ID, SongStatus.REQUESTED, SongStatus.IN_PROGRESS))
+                .thenReturn(true);
+        assertThat(queue.tryClaim(SESSION_ID)).isTrue();
+
+        submit();
+
+        verify(queue, timeout(5_000)).ack(any());
+        verify(queue, never()).releaseClaim(SESSION_ID);
+        // 저장 전 재요청은 다시 생성하지 않음
+        assertThat(queue.tryClaim(SESSION_ID)).isFalse();
+    }
+
+    private void submit() {
+        queue.enqueue(SongGenerationJob.of(USER_ID, 1, SESSION_ID, "happy", "girl"));
+        worker.start();
+    }
+}
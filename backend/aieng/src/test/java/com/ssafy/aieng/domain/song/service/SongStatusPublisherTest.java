@@ -0,0 +1,103 @@
+package com.ssafy.aieng.domain.song.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.aieng.domain.song.entity.SongStatus;
+import com.ssafy.aieng.global.common.util.RedisKeyUtil;
+import com.ssafy.aieng.support.RedisTestSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Testcontainers
+class SongStatusPublisherTest {
+
+    private static final Integer USER_ID = 1;
+    private static final Integer SESSION_ID = 10;
+
+    @Container
+    static GenericContainer<?> redis = RedisTestSupport.redisContainer();
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate template;
+    private SongStatusPublisher publisher;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = RedisTestSupport.connectionFactory(redis);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        template = spy(RedisTestSupport.template(connectionFactory));
+        template.delete(RedisKeyUtil.getSongStatusKey(SESSION_ID));
+        publisher = new SongStatusPublisher(template, new ObjectMapper());
+    }
+
+    @Test
+    void correctsStatusWhenPrimaryStillHasExpectedValue() {
+        publisher.publish(USER_ID, SESSION_ID, SongStatus.IN_PROGRESS);
+
+        assertThat(publisher.publishIfCurrent(USER_ID, SESSION_ID, SongStatus.IN_PROGRESS, SongStatus.READY)).isTrue();
+        assertThat(publisher.currentStatus(SESSION_ID)).isEqualTo(SongStatus.READY);
+        verify(template, times(2)).convertAndSend(eq(RedisKeyUtil.SONG_STATUS_CHANNEL), anyString());
+    }
+
+    @Test
+    void doesNotOverwriteNewerStatus() {
+        // 레플리카에는 아직 IN_PROGRESS로 보이지만 프라이머리는 이미 SAVED
+        publisher.publish(USER_ID, SESSION_ID, SongStatus.SAVED);
+
+        assertThat(publisher.publishIfCurrent(USER_ID, SESSION_ID, SongStatus.IN_PROGRESS, SongStatus.READY)).isFalse();
+        assertThat(publisher.currentStatus(SESSION_ID)).isEqualTo(SongStatus.SAVED);
+        verify(template, times(1)).convertAndSend(eq(RedisKeyUtil.SONG_STATUS_CHANNEL), anyString());
+    }
+
+    @Test
+    void doesNotCreateMissingStatus() {
+        assertThat(publisher.publishIfCurrent(USER_ID, SESSION_ID, SongStatus.IN_PROGRESS, SongStatus.READY)).isFalse();
+        assertThat(publisher.currentStatus(SESSION_ID)).isNull();
+        verify(template, never()).convertAndSend(eq(RedisKeyUtil.SONG_STATUS_CHANNEL), anyString());
+    }
+
+    @Test
+    void acceptsAnyOfExpectedStatuses() {
+        // FastAPI가 먼저 READY로 바꾼 경우에도 알림은 발행
+        template.opsForValue().set(RedisKeyUtil.getSongStatusKey(SESSION_ID), SongStatus.READY.name());
+
+        assertThat(publisher.publishIfCurrent(USER_ID, SESSION_ID,
+                List.of(SongStatus.IN_PROGRESS, SongStatus.READY), SongStatus.READY)).isTrue();
+        assertThat(publisher.currentStatus(SESSION_ID)).isEqualTo(SongStatus.READY);
+        verify(template, times(1)).convertAndSend(eq(RedisKeyUtil.SONG_STATUS_CHANNEL), anyString());
+    }
+
+    @Test
+    void rejectsStatusOutsideExpectedSet() {
+        publisher.publish(USER_ID, SESSION_ID, SongStatus.SAVED);
+
+        assertThat(publisher.publishIfCurrent(USER_ID, SESSION_ID,
+                List.of(SongStatus.REQUESTED, SongStatus.IN_PROGRESS), SongStatus.FAILED)).isFalse();
+        assertThat(publisher.currentStatus(SESSION_ID)).isEqualTo(SongStatus.SAVED);
+    }
+}
@@ -0,0 +1,171 @@
+package com.ssafy.aieng.global.common.redis.codec;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.aieng.domain.song.dto.response.SongGenerateResponseDto;
+import com.ssafy.aieng.domain.voice.dto.response.PronounceTestResponse;
+import com.ssafy.aieng.support.RedisTestSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 값 직렬화: 변경 전 기본 타이핑(GenericJackson2JsonRedisSerializer) vs RedisValueCodec 비교
+ * - 값 크기(바이트), Redis MEMORY USAGE, 역직렬화 시간
+ */
+@Testcontainers
+class RedisValueCodecBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisValueCodecBenchmarkTest.class);
+
+    private static final int RESULTS_PER_LIST = 12;
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 20_000;
+
+    private static final RedisValueType<SongGenerateResponseDto> SONG_SAVE_RESPONSE =
+            RedisValueType.of("Song:save", SongGenerateResponseDto.class);
+    private static final RedisValueType<List<PronounceTestResponse>> PRONUNCIATION_RESULTS =
+            RedisValueType.listOf("Pronunciation:results", PronounceTestResponse.class);
+
+    @Container
+    static GenericContainer<?> redis = RedisTestSupport.redisContainer();
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate template;
+
+    private final RedisValueCodec codec = new RedisValueCodec(objectMapper());
+    private final GenericJackson2JsonRedisSerializer legacy = legacySerializer();
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = RedisTestSupport.connectionFactory(redis);
+        template = RedisTestSupport.template(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void songResponseIsSmallerWithoutTypeInformation() {
+        SongGenerateResponseDto value = songResponse();
+        byte[] legacyBytes = legacy.serialize(value);
+        byte[] codecBytes = codec.encode(SONG_SAVE_RESPONSE, value).getBytes(StandardCharsets.UTF_8);
+
+        report("동요 저장 응답", legacyBytes, codecBytes,
+                () -> legacy.deserialize(legacyBytes),
+                () -> codec.decode(SONG_SAVE_RESPONSE, new String(codecBytes, StandardCharsets.UTF_8)));
+
+        SongGenerateResponseDto decoded = codec.decode(SONG_SAVE_RESPONSE, new String(codecBytes, StandardCharsets.UTF_8));
+        assertThat(decoded.getSongId()).isEqualTo(value.getSongId());
+        assertThat(decoded.getCreatedAt()).isEqualTo(value.getCreatedAt());
+        assertThat(codecBytes.length).isLessThan(legacyBytes.length);
+    }
+
+    @Test
+    void resultListIsSmallerWithoutTypeInformation() {
+        List<PronounceTestResponse> value = pronunciationResults();
+        byte[] legacyBytes = legacy.serialize(value);
+        byte[] codecBytes = codec.encode(PRONUNCIATION_RESULTS, value).getBytes(StandardCharsets.UTF_8);
+
+        report("발음 평가 결과 목록", legacyBytes, codecBytes,
+                () -> legacy.deserialize(legacyBytes),
+                () -> codec.decode(PRONUNCIATION_RESULTS, new String(codecBytes, StandardCharsets.UTF_8)));
+
+        assertThat(codec.decode(PRONUNCIATION_RESULTS, new String(codecBytes, StandardCharsets.UTF_8)))
+                .hasSize(RESULTS_PER_LIST);
+        assertThat(codecBytes.length).isLessThan(legacyBytes.length);
+        assertThat(memoryUsage("bench:codec", codecBytes)).isLessThan(memoryUsage("bench:legacy", legacyBytes));
+    }
+
+    private void report(String name, byte[] legacyBytes, byte[] codecBytes, Supplier<?> legacyDecode, Supplier<?> codecDecode) {
+        long legacyMemory = memoryUsage("bench:legacy", legacyBytes);
+        long codecMemory = memoryUsage("bench:codec", codecBytes);
+        long legacyNanos = time(legacyDecode);
+        long codecNanos = time(codecDecode);
+
+        log.info("📊 {}: 크기 기본 타이핑 {}B → 코덱 {}B ({}%), MEMORY USAGE {}B → {}B, 역직렬화 {}회 {}ms → {}ms",
+                name, legacyBytes.length, codecBytes.length,
+                String.format("%.1f", 100.0 * (legacyBytes.length - codecBytes.length) / legacyBytes.length),
+                legacyMemory, codecMemory, ITERATIONS, legacyNanos / 1_000_000, codecNanos / 1_000_000);
+    }
+
+    private static long memoryUsage(String key, byte[] value) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        return template.execute((RedisCallback<Long>) connection -> {
+            connection.stringCommands().set(rawKey, value);
+            return (Long) connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), rawKey);
+        });
+    }
+
+    private static long time(Supplier<?> decode) {
+        for (int i = 0; i < WARMUP; i++) {
+            decode.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            decode.get();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static SongGenerateResponseDto songResponse() {
+        return SongGenerateResponseDto.builder()
+                .songId(1024)
+                .moodId(3)
+                .songUrl("https://cdn.example.com/songs/1024.mp3")
+                .title("Twinkle Apple")
+                .lyric("Apple apple, red and round, falling softly to the ground")
+                .description("빨갛고 동그란 사과가 땅으로 살며시 떨어져요")
+                .createdAt(LocalDateTime.of(2026, 10, 18, 10, 0))
+                .newSessionId(2048)
+                .build();
+    }
+
+    // 기본 타이핑은 리스트 구현 클래스 이름도 기록하므로 역직렬화 가능한 ArrayList 사용
+    private static List<PronounceTestResponse> pronunciationResults() {
+        List<PronounceTestResponse> results = new ArrayList<>();
+        for (int i = 0; i < RESULTS_PER_LIST; i++) {
+            results.add(PronounceTestResponse.of("apple " + i, "apple " + i, 80 + i, 90, "잘했어요"));
+        }
+        return results;
+    }
+
+    private static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    // 변경 전 RedisConfig 설정 (값마다 클래스 이름 포함)
+    private static GenericJackson2JsonRedisSerializer legacySerializer() {
+        ObjectMapper mapper = objectMapper();
+        mapper.activateDefaultTyping(
+                LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        return new GenericJackson2JsonRedisSerializer(mapper);
+    }
+}
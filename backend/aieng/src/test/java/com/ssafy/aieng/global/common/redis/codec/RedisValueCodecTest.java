@@ -0,0 +1,60 @@
+package com.ssafy.aieng.global.common.redis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.aieng.domain.voice.dto.response.PronounceTestResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisValueCodecTest {
+
+    private static final RedisValueType<PronounceTestResponse> RESULT =
+            RedisValueType.of("Pronunciation:result", PronounceTestResponse.class);
+
+    private final RedisValueCodec codec = new RedisValueCodec(new ObjectMapper());
+
+    @Test
+    void encodesPlainJsonWithoutTypeInformation() {
+        String json = codec.encode(RESULT, PronounceTestResponse.of("apple", "apple", 95, 90, "좋아요"));
+
+        assertThat(json).doesNotContain("@class").doesNotContain(PronounceTestResponse.class.getName());
+        assertThat(json).contains("\"recognized_text\":\"apple\"");
+    }
+
+    @Test
+    void decodesWithFamilyType() {
+        PronounceTestResponse decoded = codec.decode(RESULT,
+                codec.encode(RESULT, PronounceTestResponse.of("aple", "apple", 70, 80, "다시 해봐요")));
+
+        assertThat(decoded.getRecognizedText()).isEqualTo("aple");
+        assertThat(decoded.getExpectedText()).isEqualTo("apple");
+        assertThat(decoded.getAccuracy()).isEqualTo(70);
+        assertThat(decoded.getConfidence()).isEqualTo(80);
+        assertThat(decoded.getFeedback()).isEqualTo("다시 해봐요");
+    }
+
+    @Test
+    void decodesListFamily() {
+        RedisValueType<List<PronounceTestResponse>> history =
+                RedisValueType.listOf("Pronunciation:history", PronounceTestResponse.class);
+        List<PronounceTestResponse> values = List.of(
+                PronounceTestResponse.of("cat", "cat", 100, 99, "완벽해요"),
+                PronounceTestResponse.of("dog", "dog", 90, 95, "잘했어요"));
+
+        List<PronounceTestResponse> decoded = codec.decode(history, codec.encode(history, values));
+
+        assertThat(decoded).extracting(PronounceTestResponse::getRecognizedText).containsExactly("cat", "dog");
+    }
+
+    @Test
+    void rejectsSecondTypeForSameFamily() {
+        codec.encode(RESULT, PronounceTestResponse.of("apple", "apple", 95, 90, "좋아요"));
+        RedisValueType<String> conflicting = RedisValueType.of("Pronunciation:result", String.class);
+
+        assertThatThrownBy(() -> codec.encode(conflicting, "apple"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
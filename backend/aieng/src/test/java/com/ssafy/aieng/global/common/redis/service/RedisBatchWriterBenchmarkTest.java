@@ -0,0 +1,131 @@
+package com.ssafy.aieng.global.common.redis.service;
+
+import com.ssafy.aieng.support.RedisTestSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 단어 해시 저장: 파이프라인(RedisBatchWriter) vs 명령별 왕복 비교
+ * - 세션 1개 = 단어 12개 (HSET + EXPIRE 각 12회, SADD + EXPIRE 1회)
+ */
+@Testcontainers
+class RedisBatchWriterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisBatchWriterBenchmarkTest.class);
+
+    private static final int WORDS_PER_SESSION = 12;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+    private static final Duration TTL = Duration.ofHours(1);
+
+    @Container
+    static GenericContainer<?> redis = RedisTestSupport.redisContainer();
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate template;
+    private static RedisBatchWriter writer;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = RedisTestSupport.connectionFactory(redis);
+        template = RedisTestSupport.template(connectionFactory);
+        writer = new RedisBatchWriter(template);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        template.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Test
+    void pipelinedWriteStoresHashesIndexAndTtl() {
+        Map<String, Map<String, String>> hashes = sessionHashes(1);
+        writer.putIndexedHashes(indexKey(1), hashes, TTL);
+
+        assertThat(template.opsForSet().members(indexKey(1))).containsExactlyInAnyOrderElementsOf(hashes.keySet());
+        hashes.forEach((key, fields) -> {
+            assertThat(template.<String, String>opsForHash().entries(key)).isEqualTo(fields);
+            assertThat(template.getExpire(key)).isPositive();
+        });
+        assertThat(template.getExpire(indexKey(1))).isPositive();
+    }
+
+    @Test
+    void pipelinedWriteIsFasterThanPerCommandWrites() {
+        for (int i = 0; i < WARMUP; i++) {
+            writer.putIndexedHashes(indexKey(i), sessionHashes(i), TTL);
+            writePerCommand(indexKey(i), sessionHashes(i));
+        }
+
+        long perCommand = time(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                writePerCommand(indexKey(i), sessionHashes(i));
+            }
+        });
+        long pipelined = time(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                writer.putIndexedHashes(indexKey(i), sessionHashes(i), TTL);
+            }
+        });
+
+        log.info("📊 세션 단어 저장 {}회: 명령별 {}ms, 파이프라인 {}ms ({}배)",
+                ITERATIONS, perCommand / 1_000_000, pipelined / 1_000_000,
+                String.format("%.1f", (double) perCommand / pipelined));
+        assertThat(pipelined).isLessThan(perCommand);
+    }
+
+    // 변경 전 방식: 단어마다 HSET + EXPIRE 왕복
+    private void writePerCommand(String indexKey, Map<String, Map<String, String>> hashes) {
+        hashes.forEach((key, fields) -> {
+            template.opsForHash().putAll(key, fields);
+            template.expire(key, TTL);
+        });
+        template.opsForSet().add(indexKey, hashes.keySet().toArray(String[]::new));
+        template.expire(indexKey, TTL);
+    }
+
+    private static Map<String, Map<String, String>> sessionHashes(int sessionId) {
+        Map<String, Map<String, String>> hashes = new LinkedHashMap<>();
+        for (int w = 0; w < WORDS_PER_SESSION; w++) {
+            hashes.put("Learning:{session:" + sessionId + "}:user:1:word:word" + w, Map.of(
+                    "wordEn", "word" + w,
+                    "wordKo", "단어" + w,
+                    "imgUrl", "https://example.com/" + w + ".png"
+            ));
+        }
+        return hashes;
+    }
+
+    private static String indexKey(int sessionId) {
+        return "Learning:{session:" + sessionId + "}:words";
+    }
+
+    private static long time(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+}
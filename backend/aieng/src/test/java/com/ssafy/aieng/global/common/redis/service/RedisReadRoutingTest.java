@@ -0,0 +1,134 @@
+package com.ssafy.aieng.global.common.redis.service;
+
+import com.ssafy.aieng.global.config.RedisReplicaProperties;
+import com.ssafy.aieng.support.RedisTestSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 조회 라우팅 통합 테스트 (프라이머리 1 + 레플리카 1)
+ * - 레플리카에만 있는 값을 reader()로 읽을 수 있으면 레플리카로 라우팅된 것
+ */
+@Testcontainers
+class RedisReadRoutingTest {
+
+    private static final String PRIMARY_ALIAS = "redis-primary";
+
+    static Network network = Network.newNetwork();
+
+    @Container
+    static GenericContainer<?> primary = RedisTestSupport.redisContainer()
+            .withNetwork(network)
+            .withNetworkAliases(PRIMARY_ALIAS);
+
+    // 라우팅 확인용으로 레플리카에도 직접 쓸 수 있게 함
+    @Container
+    static GenericContainer<?> replica = RedisTestSupport.redisContainer()
+            .withNetwork(network)
+            .withCommand("redis-server", "--replicaof", PRIMARY_ALIAS, String.valueOf(RedisTestSupport.REDIS_PORT),
+                    "--replica-read-only", "no")
+            .dependsOn(primary);
+
+    private static LettuceConnectionFactory primaryFactory;
+    private static LettuceConnectionFactory replicaFactory;
+    private static StringRedisTemplate primaryTemplate;
+    private static StringRedisTemplate replicaTemplate;
+
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<SslBundles> sslBundles = mock(ObjectProvider.class);
+
+    private RedisReadRouting routing;
+
+    @BeforeAll
+    static void connect() throws InterruptedException {
+        primaryFactory = RedisTestSupport.connectionFactory(primary);
+        replicaFactory = RedisTestSupport.connectionFactory(replica);
+        primaryTemplate = RedisTestSupport.template(primaryFactory);
+        replicaTemplate = RedisTestSupport.template(replicaFactory);
+        awaitReplicationLink();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        primaryFactory.destroy();
+        replicaFactory.destroy();
+        network.close();
+    }
+
+    @AfterEach
+    void shutdownRouting() {
+        if (routing != null) {
+            routing.shutdown();
+        }
+    }
+
+    @Test
+    void readerUsesReplicaWhenEnabled() {
+        routing = routing(true, List.of(replica.getHost() + ":" + replica.getMappedPort(RedisTestSupport.REDIS_PORT)));
+
+        replicaTemplate.opsForValue().set("routing:replica-only", "replica");
+
+        assertThat(routing.reader()).isNotSameAs(primaryTemplate);
+        assertThat(primaryTemplate.opsForValue().get("routing:replica-only")).isNull();
+        assertThat(routing.reader().opsForValue().get("routing:replica-only")).isEqualTo("replica");
+    }
+
+    @Test
+    void readerFallsBackToPrimaryWhenDisabled() {
+        routing = routing(false, List.of(replica.getHost() + ":" + replica.getMappedPort(RedisTestSupport.REDIS_PORT)));
+
+        assertThat(routing.reader()).isSameAs(primaryTemplate);
+    }
+
+    @Test
+    void readerFallsBackToPrimaryWithoutReplicaTopology() {
+        routing = routing(true, List.of());
+
+        assertThat(routing.reader()).isSameAs(primaryTemplate);
+    }
+
+    private RedisReadRouting routing(boolean enabled, List<String> replicaNodes) {
+        RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setHost(primary.getHost());
+        redisProperties.setPort(primary.getMappedPort(RedisTestSupport.REDIS_PORT));
+
+        RedisReplicaProperties replicaProperties = new RedisReplicaProperties();
+        replicaProperties.setEnabled(enabled);
+        replicaProperties.setReadFrom("REPLICA");
+        replicaProperties.setNodes(replicaNodes);
+
+        RedisReadRouting readRouting = new RedisReadRouting(primaryTemplate, redisProperties, replicaProperties, sslBundles);
+        readRouting.init();
+        return readRouting;
+    }
+
+    // 초기 전체 동기화가 끝난 뒤에 레플리카에 값을 써야 지워지지 않음
+    private static void awaitReplicationLink() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Properties info = replicaTemplate.execute(
+                    connection -> connection.serverCommands().info("replication"), true);
+            if (info != null && "up".equals(info.getProperty("master_link_status"))) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("replication link not established");
+    }
+}
@@ -0,0 +1,55 @@
+package com.ssafy.aieng.global.common.util;
+
+import com.ssafy.aieng.global.common.redis.service.RedisBatchWriter;
+import com.ssafy.aieng.global.common.redis.service.RedisReadRouting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TagVectorServiceTest {
+
+    private final RedisBatchWriter batchWriter = mock(RedisBatchWriter.class);
+    private final TagVectorService service =
+            new TagVectorService(mock(RedisReadRouting.class), batchWriter, new SimpleMeterRegistry());
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedFlushKeepsIncrementsForNextFlush() {
+        service.increaseTagScore(7, "animal", 0.5);
+        service.increaseTagScore(7, "animal", 0.25);
+        service.increaseTagScore(8, "food", -0.15);
+
+        doThrow(new IllegalStateException("redis down")).doNothing().when(batchWriter).incrementScores(anyMap());
+        service.flush();
+        service.flush();
+
+        ArgumentCaptor<Map<String, Map<String, Double>>> sent = ArgumentCaptor.forClass(Map.class);
+        verify(batchWriter, times(2)).incrementScores(sent.capture());
+        Map<String, Map<String, Double>> retried = sent.getAllValues().get(1);
+        assertThat(retried).containsOnlyKeys(
+                RedisKeyUtil.getUserTagVectorKey(7), RedisKeyUtil.getUserTagVectorKey(8));
+        assertThat(retried.get(RedisKeyUtil.getUserTagVectorKey(7))).containsEntry("animal", 0.75);
+        assertThat(retried.get(RedisKeyUtil.getUserTagVectorKey(8))).containsEntry("food", -0.15);
+    }
+
+    @Test
+    void successfulFlushClearsBuffer() {
+        service.increaseTagScore(7, "animal", 0.5);
+        doNothing().when(batchWriter).incrementScores(anyMap());
+
+        service.flush();
+        service.flush();
+
+        verify(batchWriter, times(1)).incrementScores(anyMap());
+    }
+}
@@ -0,0 +1,167 @@
+package com.ssafy.aieng.global.infra.fastapi.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.aieng.global.config.FastApiProperties;
+import com.ssafy.aieng.global.error.ErrorCode;
+import com.ssafy.aieng.global.error.exception.CustomException;
+import com.ssafy.aieng.global.infra.fastapi.constants.FastApiEndpoint;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FastApiClientTest {
+
+    private HttpServer server;
+    private FastApiClient client;
+
+    // 요청을 붙잡아 둘 때 사용 (countDown 전까지 응답하지 않음)
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch received = new CountDownLatch(1);
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicReference<byte[]> uploaded = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/songs/", exchange -> {
+            requests.incrementAndGet();
+            received.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "{\"ok\":true}");
+        });
+        server.createContext("/words/", exchange -> {
+            requests.incrementAndGet();
+            respond(exchange, "{\"ok\":true}");
+        });
+        server.createContext("/pronunciation/evaluate", exchange -> {
+            requests.incrementAndGet();
+            uploaded.set(exchange.getRequestBody().readAllBytes());
+            respond(exchange, "{\"score\":90}");
+        });
+        server.start();
+
+        FastApiProperties properties = new FastApiProperties();
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setAcquireTimeout(Duration.ofMillis(100));
+        FastApiProperties.Endpoint songs = new FastApiProperties.Endpoint();
+        songs.setMaxConcurrency(1);
+        properties.getEndpoints().put(FastApiEndpoint.SONGS, songs);
+        FastApiProperties.Endpoint pronunciation = new FastApiProperties.Endpoint();
+        pronunciation.setMaxUploadSize(DataSize.ofKilobytes(64));
+        properties.getEndpoints().put(FastApiEndpoint.PRONUNCIATION, pronunciation);
+
+        client = new FastApiClient(properties, new ObjectMapper());
+        client.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        client.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void returnsResponseBody() {
+        assertThat(client.postJson(FastApiEndpoint.WORDS, Map.of("word", "apple"))).isEqualTo("{\"ok\":true}");
+    }
+
+    @Test
+    void rejectsWithBusyWhenEndpointConcurrencyIsExhausted() throws Exception {
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(
+                () -> client.postJson(FastApiEndpoint.SONGS, Map.of("session_id", 1)));
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 한도(1)를 첫 요청이 점유 중 → acquireTimeout 이후 EXTERNAL_SERVICE_BUSY
+        assertThatThrownBy(() -> client.postJson(FastApiEndpoint.SONGS, Map.of("session_id", 2)))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EXTERNAL_SERVICE_BUSY));
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("{\"ok\":true}");
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void endpointLimitsAreIndependent() throws Exception {
+        CompletableFuture.runAsync(() -> client.postJson(FastApiEndpoint.SONGS, Map.of("session_id", 1)));
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 동요 요청이 한도를 채워도 단어 요청은 영향 없음
+        assertThat(client.postJson(FastApiEndpoint.WORDS, Map.of("word", "apple"))).isEqualTo("{\"ok\":true}");
+    }
+
+    @Test
+    void rejectsOversizedUploadBeforeSending() {
+        byte[] audio = new byte[(int) DataSize.ofKilobytes(65).toBytes()];
+
+        assertThatThrownBy(() -> upload(audio))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PAYLOAD_TOO_LARGE));
+        assertThat(requests.get()).isZero();
+    }
+
+    @Test
+    void streamsUploadBodyUnchanged() {
+        byte[] audio = new byte[(int) DataSize.ofKilobytes(48).toBytes()];
+        Arrays.fill(audio, (byte) 7);
+
+        assertThat(upload(audio)).isEqualTo("{\"score\":90}");
+        // multipart 본문 안에 업로드한 바이트가 그대로 포함됨
+        assertThat(indexOf(uploaded.get(), audio)).isNotNegative();
+    }
+
+    private String upload(byte[] audio) {
+        InputStreamRequestBody part = new InputStreamRequestBody(
+                new ByteArrayResource(audio), okhttp3.MediaType.get("audio/ogg"), audio.length);
+        return client.postMultipart(FastApiEndpoint.PRONUNCIATION, Map.of("word", "apple"),
+                "audio", "audio.ogg", part);
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle) {
+        outer:
+        for (int i = 0; i <= haystack.length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -0,0 +1,225 @@
+package com.ssafy.aieng.global.infra.fastapi.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.aieng.global.config.FastApiProperties;
+import com.ssafy.aieng.global.infra.fastapi.constants.FastApiEndpoint;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.MediaType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 발음 평가 업로드 50건 동시 요청: 변경 전(임시 파일 저장 후 다시 읽어 전송) vs 스트리밍 전송 비교
+ * - 지연 시간 p50/p99, 임시 파일 쓰기량, 프로세스 파일/소켓 입출력량(/proc/self/io) 기록
+ * - FastAPI 설정은 application.yml의 pronunciation 값과 동일 (동시 8건, 대기 5초)
+ */
+class PronunciationUploadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PronunciationUploadBenchmarkTest.class);
+
+    private static final int CONCURRENT_UPLOADS = 50;
+    private static final int AUDIO_SIZE = (int) DataSize.ofKilobytes(256).toBytes();
+    private static final long EVALUATION_MS = 50;
+    private static final MediaType AUDIO_OGG = MediaType.get("audio/ogg");
+    private static final Path PROC_IO = Path.of("/proc/self/io");
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer server;
+    private FastApiClient client;
+    private final AtomicLong receivedBytes = new AtomicLong();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/pronunciation/evaluate", exchange -> {
+            receivedBytes.addAndGet(exchange.getRequestBody().readAllBytes().length);
+            try {
+                Thread.sleep(EVALUATION_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"accuracy\":90}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        FastApiProperties properties = new FastApiProperties();
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setAcquireTimeout(Duration.ofSeconds(5));
+        FastApiProperties.Endpoint pronunciation = new FastApiProperties.Endpoint();
+        pronunciation.setMaxConcurrency(8);
+        pronunciation.setMaxUploadSize(DataSize.ofMegabytes(5));
+        properties.getEndpoints().put(FastApiEndpoint.PRONUNCIATION, pronunciation);
+
+        client = new FastApiClient(properties, new ObjectMapper());
+        client.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void streamingUploadSkipsTempFiles() throws Exception {
+        // JIT/커넥션 준비
+        run(this::uploadViaTempFile);
+        run(this::uploadStreaming);
+
+        AtomicLong tempFileBytes = new AtomicLong();
+        Map<String, Long> ioBefore = procIo();
+        Result legacy = run(file -> {
+            tempFileBytes.addAndGet(file.getSize());
+            uploadViaTempFile(file);
+        });
+        Map<String, Long> ioBetween = procIo();
+        Result streaming = run(this::uploadStreaming);
+        Map<String, Long> ioAfter = procIo();
+
+        log.info("📊 발음 평가 업로드 {}건 동시 ({}KB): 임시 파일 p50 {}ms / p99 {}ms, 스트리밍 p50 {}ms / p99 {}ms",
+                CONCURRENT_UPLOADS, AUDIO_SIZE / 1024,
+                legacy.percentile(50), legacy.percentile(99), streaming.percentile(50), streaming.percentile(99));
+        log.info("📊 디스크: 임시 파일 쓰기 {}KB, 프로세스 쓰기(wchar) {}KB → {}KB, 읽기(rchar) {}KB → {}KB",
+                tempFileBytes.get() / 1024,
+                delta(ioBefore, ioBetween, "wchar") / 1024, delta(ioBetween, ioAfter, "wchar") / 1024,
+                delta(ioBefore, ioBetween, "rchar") / 1024, delta(ioBetween, ioAfter, "rchar") / 1024);
+
+        assertThat(tempFileBytes.get()).isEqualTo((long) CONCURRENT_UPLOADS * AUDIO_SIZE);
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+        // 같은 양을 전송하므로 차이는 임시 파일 쓰기/읽기 (Linux에서만 측정 가능)
+        if (!ioBefore.isEmpty()) {
+            assertThat(delta(ioBetween, ioAfter, "wchar")).isLessThan(delta(ioBefore, ioBetween, "wchar"));
+        }
+    }
+
+    // 변경 전 VoiceService: transferTo로 임시 파일 저장 → FileSystemResource로 다시 읽어 전송
+    private void uploadViaTempFile(MultipartFile audio) throws IOException {
+        File temp = File.createTempFile("pronounce-", ".ogg", tempDir.toFile());
+        try {
+            audio.transferTo(temp);
+            client.postMultipart(FastApiEndpoint.PRONUNCIATION, Map.of("expected_text", "apple"), "audio_file",
+                    "audio.ogg", new InputStreamRequestBody(new FileSystemResource(temp), AUDIO_OGG, temp.length()));
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    // 현재 VoiceService: 업로드 스트림을 그대로 전송
+    private void uploadStreaming(MultipartFile audio) {
+        client.postMultipart(FastApiEndpoint.PRONUNCIATION, Map.of("expected_text", "apple"), "audio_file",
+                "audio.ogg", new InputStreamRequestBody(audio, AUDIO_OGG, audio.getSize()));
+    }
+
+    private Result run(Upload upload) throws Exception {
+        ExecutorService requestThreads = Executors.newFixedThreadPool(CONCURRENT_UPLOADS);
+        CountDownLatch start = new CountDownLatch(1);
+        long sentBefore = receivedBytes.get();
+        try {
+            List<CompletableFuture<Long>> latencies = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_UPLOADS; i++) {
+                MultipartFile audio = audio(i);
+                latencies.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                        long begin = System.nanoTime();
+                        upload.send(audio);
+                        return System.nanoTime() - begin;
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, requestThreads));
+            }
+            start.countDown();
+
+            long[] nanos = new long[CONCURRENT_UPLOADS];
+            for (int i = 0; i < CONCURRENT_UPLOADS; i++) {
+                nanos[i] = latencies.get(i).get(30, TimeUnit.SECONDS);
+            }
+            assertThat(receivedBytes.get() - sentBefore).isGreaterThanOrEqualTo((long) CONCURRENT_UPLOADS * AUDIO_SIZE);
+            return new Result(nanos);
+        } finally {
+            requestThreads.shutdownNow();
+        }
+    }
+
+    private static MultipartFile audio(int seed) {
+        byte[] bytes = new byte[AUDIO_SIZE];
+        Arrays.fill(bytes, (byte) seed);
+        return new MockMultipartFile("audioFile", "audio.ogg", "audio/ogg", bytes);
+    }
+
+    // /proc/self/io (Linux 외에는 빈 값)
+    private static Map<String, Long> procIo() throws IOException {
+        if (!Files.isReadable(PROC_IO)) {
+            return Map.of();
+        }
+        Map<String, Long> values = new HashMap<>();
+        for (String line : Files.readAllLines(PROC_IO)) {
+            String[] parts = line.split(":\\s*");
+            values.put(parts[0], Long.parseLong(parts[1].trim()));
+        }
+        return values;
+    }
+
+    private static long delta(Map<String, Long> before, Map<String, Long> after, String field) {
+        return after.getOrDefault(field, 0L) - before.getOrDefault(field, 0L);
+    }
+
+    @FunctionalInterface
+    private interface Upload {
+        void send(MultipartFile audio) throws Exception;
+    }
+
+    private static final class Result {
+
+        private final long[] sortedNanos;
+
+        private Result(long[] nanos) {
+            this.sortedNanos = nanos.clone();
+            Arrays.sort(this.sortedNanos);
+        }
+
+        private long percentile(int p) {
+            int index = (int) Math.ceil(p / 100.0 * sortedNanos.length) - 1;
+            return TimeUnit.NANOSECONDS.toMillis(sortedNanos[Math.max(index, 0)]);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.ssafy.aieng.global.infra.fastapi.codec;
+
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.ssafy.aieng.domain.learning.dto.response.GeneratedContentResult;
+import com.ssafy.aieng.domain.song.dto.response.GeneratedSongResult;
+import com.ssafy.aieng.global.error.ErrorCode;
+import com.ssafy.aieng.global.error.exception.CustomException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class GeneratedResultCodecTest {
+
+    private static final String JSON = """
+            {"word":"apple","sentence":"I like apples.","translation":"나는 사과를 좋아해요.",
+             "image_url":"https://example.com/apple.png","audio_url":"https://example.com/apple.mp3",
+             "cached_at":"2026-10-18T10:00:00","extra":"ignored"}
+            """;
+
+    private final GeneratedResultCodec codec =
+            new GeneratedResultCodec(mock(StringRedisTemplate.class), new ObjectMapper());
+
+    @Test
+    void decodesUnprefixedJson() {
+        assertContent(codec.decodeContent(JSON));
+    }
+
+    @Test
+    void decodesV1PrefixedJson() {
+        assertContent(codec.decodeContent("v1:" + JSON));
+    }
+
+    @Test
+    void encodedValueRoundTrips() {
+        GeneratedContentResult decoded = codec.decodeContent(JSON);
+        assertContent(codec.decodeContent(codec.encodeJson(decoded)));
+    }
+
+    @Test
+    void decodesV2PrefixedCbor() throws Exception {
+        byte[] cbor = new CBORMapper().writeValueAsBytes(new ObjectMapper().readValue(JSON, Map.class));
+
+        assertContent(codec.decodeContent(withPrefix("v2:", cbor)));
+    }
+
+    @Test
+    void cborSongIsSmallerThanFastApiJson() throws Exception {
+        Map<String, String> song = Map.of(
+                "song_url", "https://cdn.example.com/songs/song_10_3063757d21e247949ad973e2f0b96fd2.ogg",
+                "title", "Twinkle Apple",
+                "lyrics_en", "Apple apple, red and round, falling softly to the ground",
+                "lyrics_ko", "사과 사과 빨갛고 동그란 사과, 땅으로 살며시 떨어져요",
+                "mood", "happy",
+                "voice", "female vocal");
+        // FastAPI json.dumps 기본값 (ensure_ascii: 한글을 유니코드 이스케이프로 저장)
+        byte[] json = JsonMapper.builder().enable(JsonWriteFeature.ESCAPE_NON_ASCII).build().writeValueAsBytes(song);
+        byte[] cbor = withPrefix("v2:", new CBORMapper().writeValueAsBytes(song));
+
+        GeneratedSongResult decoded = codec.decodeSong(cbor);
+        assertThat(decoded.getLyricsKo()).isEqualTo(song.get("lyrics_ko"));
+        assertThat(decoded.getSongUrl()).isEqualTo(song.get("song_url"));
+        assertThat(cbor.length).isLessThan(json.length);
+    }
+
+    @Test
+    void malformedValueIsReportedAsInternalError() {
+        assertThatThrownBy(() -> codec.decodeContent("v1:{not json"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR));
+    }
+
+    private static byte[] withPrefix(String prefix, byte[] body) {
+        byte[] raw = new byte[prefix.length() + body.length];
+        System.arraycopy(prefix.getBytes(StandardCharsets.US_ASCII), 0, raw, 0, prefix.length());
+        System.arraycopy(body, 0, raw, prefix.length(), body.length);
+        return raw;
+    }
+
+    private static void assertContent(GeneratedContentResult result) {
+        assertThat(result.getWord()).isEqualTo("apple");
+        assertThat(result.getSentence()).isEqualTo("I like apples.");
+        assertThat(result.getImageUrl()).isEqualTo("https://example.com/apple.png");
+        assertThat(result.getAudioUrl()).isEqualTo("https://example.com/apple.mp3");
+    }
+}
@@ -0,0 +1,88 @@
+package com.ssafy.aieng.global.security.jwt;
+
+import com.ssafy.aieng.domain.auth.dto.TokenError;
+import com.ssafy.aieng.domain.auth.dto.TokenValidationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.io.Encoders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = Encoders.BASE64.encode(
+            "test-secret-key-for-jwt-token-provider-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new JwtTokenProvider(meterRegistry);
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        provider.init();
+    }
+
+    @Test
+    void repeatedValidationIsServedFromCache() {
+        String token = provider.createAccessToken("42");
+
+        TokenValidationResult first = provider.validateToken(token);
+        TokenValidationResult second = provider.validateToken(token);
+
+        assertThat(first.isValid()).isTrue();
+        assertThat(second.isValid()).isTrue();
+        assertThat(second.getUserId()).isEqualTo(42);
+        assertThat(cacheGets("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    void cachedTokenIsRejectedOnceItsExpHasPassed() throws InterruptedException {
+        // exp는 초 단위로 잘리므로 최대 약 2초 후 만료
+        String token = provider.createToken("42", 2_000);
+        assertThat(provider.validateToken(token).isValid()).isTrue();
+        assertThat(provider.validateToken(token).isValid()).isTrue();
+
+        Thread.sleep(2_500);
+
+        // 캐시 최대 보관 시간(5분)이 남아 있어도 토큰 만료 이후에는 캐시로 통과하지 않음
+        TokenValidationResult expired = provider.validateToken(token);
+        assertThat(expired.isValid()).isFalse();
+        assertThat(expired.getError()).isEqualTo(TokenError.EXPIRED_TOKEN);
+    }
+
+    @Test
+    void tamperedTokenIsNotServedFromCache() {
+        String token = provider.createAccessToken("42");
+        assertThat(provider.validateToken(token).isValid()).isTrue();
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        TokenValidationResult result = provider.validateToken(tampered);
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getError()).isEqualTo(TokenError.INVALID_SIGNATURE);
+    }
+
+    @Test
+    void refreshTokensIssuedInSameSecondAreDistinct() {
+        // iat/exp가 초 단위라 jti가 없으면 같은 초에 발급한 토큰이 동일해짐
+        String first = provider.createRefreshToken("42");
+        String second = provider.createRefreshToken("42");
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(provider.validateToken(first).getUserId()).isEqualTo(42);
+        assertThat(provider.validateToken(second).getUserId()).isEqualTo(42);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "jwtVerification")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,37 @@
+package com.ssafy.aieng.support;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Redis 컨테이너 기반 테스트 공통 유틸
+ */
+public final class RedisTestSupport {
+
+    public static final DockerImageName REDIS_IMAGE = DockerImageName.parse("redis:7.2-alpine");
+    public static final int REDIS_PORT = 6379;
+
+    private RedisTestSupport() {
+    }
+
+    public static GenericContainer<?> redisContainer() {
+        return new GenericContainer<>(REDIS_IMAGE).withExposedPorts(REDIS_PORT);
+    }
+
+    public static LettuceConnectionFactory connectionFactory(GenericContainer<?> redis) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(REDIS_PORT)));
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    public static StringRedisTemplate template(LettuceConnectionFactory factory) {
+        StringRedisTemplate template = new StringRedisTemplate(factory);
+        template.afterPropertiesSet();
+        return template;
+    }
+}